@@ -2,6 +2,7 @@ package com.auth.controller;
 
 import com.auth.entity.User;
 import com.auth.service.UserService;
+import com.ticket.portfolio.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -73,6 +74,10 @@ public class AuthController {
             response.put("success", false);
             response.put("message", e.getMessage());
             return ResponseEntity.badRequest().body(response);
+        } catch (PasswordHashingService.PasswordHashingRejectedException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(503).header("Retry-After", "1").body(response);
         } catch (Exception e) {
             log.error("Error during registration", e);
             response.put("success", false);
@@ -105,6 +110,10 @@ public class AuthController {
                 return ResponseEntity.status(401).body(response);
             }
             
+        } catch (PasswordHashingService.PasswordHashingRejectedException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(503).header("Retry-After", "1").body(response);
         } catch (Exception e) {
             log.error("Error during login", e);
             response.put("success", false);
@@ -2,11 +2,10 @@ package com.auth.service;
 
 import com.auth.entity.User;
 import com.auth.repository.UserRepository;
+import com.ticket.portfolio.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -16,9 +15,9 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordHashingService passwordHashingService;
 
-    @Transactional
+    // BCrypt 계산 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회/저장은 각각 짧은 트랜잭션)
     public User registerUser(String email, String username, String password) {
         // 이메일 중복 체크
         if (userRepository.existsByEmail(email)) {
@@ -26,7 +25,7 @@ public class UserService {
         }
 
         // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(password);
+        String encodedPassword = passwordHashingService.encode(password);
 
         // 사용자 생성
         User user = User.builder()
@@ -42,6 +41,7 @@ public class UserService {
         return userRepository.findByEmail(email);
     }
 
+    // 조회 후 커넥션을 반납한 상태에서 BCrypt 검증, cost 상향은 별도의 조건부 UPDATE로 저장
     public boolean validateUser(String email, String password) {
         Optional<User> userOpt = userRepository.findByEmail(email);
         if (userOpt.isEmpty()) {
@@ -49,6 +49,13 @@ public class UserService {
         }
 
         User user = userOpt.get();
-        return passwordEncoder.matches(password, user.getPassword());
+        PasswordHashingService.Verification verification = passwordHashingService.verify(password, user.getPassword());
+        if (verification.upgradedHash() != null) {
+            // 낮은 cost로 저장된 해시는 로그인 성공 시 재해싱
+            if (userRepository.upgradePassword(user.getId(), user.getPassword(), verification.upgradedHash()) > 0) {
+                log.info("Upgraded password hash for {}", email);
+            }
+        }
+        return verification.matched();
     }
 }
@@ -0,0 +1,73 @@
+package com.client.portfolio.controller;
+
+import com.ticket.portfolio.ConcertInfo;
+import com.ticket.portfolio.Seat;
+import com.ticket.portfolio.SeatListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * DashboardApiController의 protobuf → Map 변환 비용 (JSON 직렬화 전 단계)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DashboardMappingBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int size;
+
+    private SeatListResponse seats;
+    private List<ConcertInfo> concerts;
+
+    @Setup
+    public void setup() {
+        SeatListResponse.Builder builder = SeatListResponse.newBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.addSeats(Seat.newBuilder()
+                    .setSeatId(i + 1)
+                    .setSeatNumber(i + 1)
+                    .setStatus(i % 3 == 0 ? "RESERVED" : "AVAILABLE")
+                    .build());
+        }
+        seats = builder.build();
+
+        concerts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            concerts.add(ConcertInfo.newBuilder()
+                    .setConcertId(i + 1)
+                    .setTitle("Concert " + i)
+                    .setConcertDate("2026-12-24 19:00:00")
+                    .setAvailableSeats(50)
+                    .setPrice(110000)
+                    .setVenue("Olympic Hall")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> seatMaps() {
+        return seats.getSeatsList().stream()
+                .map(DashboardApiController::toSeatMap)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> concertMaps() {
+        return concerts.stream()
+                .map(DashboardApiController::toConcertMap)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,50 @@
+package com.monitor.controller;
+
+import com.ticket.portfolio.LogMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모니터 SSE 브로드캐스트 시 로그 1건의 JSON 포맷 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogFormatBenchmark {
+
+    private LogStreamController controller;
+    private LogMessage plain;
+    private LogMessage quoted;
+
+    @Setup
+    public void setup() {
+        controller = new LogStreamController();
+        plain = LogMessage.newBuilder()
+                .setTimestamp("2026-10-19 12:00:00")
+                .setLevel("INFO")
+                .setServiceName("ticket-server")
+                .setLoggerName("com.server.portfolio.service.TicketGrpcService")
+                .setMessage("Reserving seat 1234 for user user@example.com")
+                .build();
+        quoted = plain.toBuilder()
+                .setMessage("Request body: {\"seatIds\": [1, 2, 3], \"concertId\": \"42\"}")
+                .build();
+    }
+
+    @Benchmark
+    public String formatPlain() {
+        return controller.formatLog(plain);
+    }
+
+    @Benchmark
+    public String formatQuoted() {
+        return controller.formatLog(quoted);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ticket.portfolio.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.google.protobuf.Empty;
+import com.ticket.portfolio.LogMessage;
+import com.ticket.portfolio.LogStreamServiceGrpc;
+import com.ticket.portfolio.logging.GrpcLogAppender;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 이벤트 GrpcLogAppender 비용 (실제 gRPC 스트림으로 전송)
+ * 수신 측은 메시지를 버리는 로컬 서버
+ * - appender가 흐름 제어 없이 onNext를 호출하므로 연속 실행 시 전송 버퍼가 무한히 쌓임
+ *   → 반복마다 BATCH 건만 기록하고 다음 반복 전에 버퍼가 비워지도록 대기
+ * - 결과는 BATCH 건 처리 시간이므로 건당 비용은 score / BATCH
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = GrpcLogAppenderBenchmark.BATCH)
+@Measurement(iterations = 30, batchSize = GrpcLogAppenderBenchmark.BATCH)
+public class GrpcLogAppenderBenchmark {
+
+    static final int BATCH = 10_000;
+
+    private Server server;
+    private GrpcLogAppender appender;
+    private LoggingEvent event;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        server = NettyServerBuilder.forPort(0)
+                .addService(new LogStreamServiceGrpc.LogStreamServiceImplBase() {
+                    @Override
+                    public StreamObserver<LogMessage> streamLogs(StreamObserver<Empty> responseObserver) {
+                        return new StreamObserver<>() {
+                            @Override
+                            public void onNext(LogMessage value) {
+                            }
+
+                            @Override
+                            public void onError(Throwable t) {
+                            }
+
+                            @Override
+                            public void onCompleted() {
+                                responseObserver.onNext(Empty.getDefaultInstance());
+                                responseObserver.onCompleted();
+                            }
+                        };
+                    }
+                })
+                .build()
+                .start();
+
+        LoggerContext context = new LoggerContext();
+        appender = new GrpcLogAppender();
+        appender.setContext(context);
+        appender.setHost("localhost");
+        appender.setPort(server.getPort());
+        appender.setServiceName("benchmark");
+        appender.start();
+
+        Logger logger = context.getLogger("com.server.portfolio.service.TicketGrpcService");
+        event = new LoggingEvent(Logger.class.getName(), logger, ch.qos.logback.classic.Level.INFO,
+                "Reserving seat {} for user {}", null, new Object[] {1234L, "user@example.com"});
+    }
+
+    @Setup(Level.Iteration)
+    public void drain() throws InterruptedException {
+        Thread.sleep(200);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        appender.stop();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void append() {
+        appender.doAppend(event);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ticket.portfolio.benchmark;
+
+import com.server.portfolio.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JWT 검증/인증 객체 생성 비용
+ * - 캐시 적중: 같은 토큰 반복 (JwtTokenProvider의 검증 캐시에서 바로 반환)
+ * - 캐시 미스(*CacheMiss): 캐시 크기보다 많은 서로 다른 토큰을 순환 → 매번 서명 검증/파싱 + 캐시 삽입/축출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final int MISS_CACHE_SIZE = 1_024;
+    private static final int MISS_TOKEN_COUNT = MISS_CACHE_SIZE * 4;
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        tokenProvider = newTokenProvider(10_000);
+        token = tokenProvider.createAccessToken(authentication("user@example.com"));
+    }
+
+    /**
+     * 캐시 미스 상태 - 스레드마다 작은 캐시의 provider와 서로 다른 토큰 목록을 가짐
+     * LRU 캐시에 토큰을 순서대로 넣으므로, 토큰 수가 캐시 크기보다 크면 다음 토큰은 항상 이미 축출된 상태
+     */
+    @State(Scope.Thread)
+    public static class DistinctTokens {
+        private JwtTokenProvider tokenProvider;
+        private String[] tokens;
+        private int next;
+
+        @Setup
+        public void setup() throws Exception {
+            tokenProvider = newTokenProvider(MISS_CACHE_SIZE);
+            tokens = new String[MISS_TOKEN_COUNT];
+            for (int i = 0; i < tokens.length; i++) {
+                tokens[i] = tokenProvider.createAccessToken(authentication("user" + i + "@example.com"));
+            }
+        }
+
+        String nextToken() {
+            String value = tokens[next];
+            next = (next + 1) % tokens.length;
+            return value;
+        }
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    // JwtAuthenticationFilter가 요청마다 수행하는 조합
+    @Benchmark
+    public Authentication validateAndAuthenticate() {
+        return tokenProvider.validateToken(token) ? tokenProvider.getAuthentication(token) : null;
+    }
+
+    @Benchmark
+    public Authentication resolveAuthenticationCacheMiss(DistinctTokens state) {
+        return state.tokenProvider.resolveAuthentication(state.nextToken());
+    }
+
+    // 첫 요청(미스) 직후 같은 토큰의 두 번째 조회는 적중 - 필터 조합의 미스 비용
+    @Benchmark
+    public Authentication validateAndAuthenticateCacheMiss(DistinctTokens state) {
+        String value = state.nextToken();
+        return state.tokenProvider.validateToken(value) ? state.tokenProvider.getAuthentication(value) : null;
+    }
+
+    private static JwtTokenProvider newTokenProvider(int cacheSize) throws Exception {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        setField(provider, "secretKey",
+                "vmfhaltmskdlstkfkdgodyrjsmsepsoftjqtrmthansdurskdlrjqtlsdlqslekdksgrkdhkfy");
+        setField(provider, "accessTokenValidityInMilliseconds", 3_600_000L);
+        setField(provider, "refreshTokenValidityInMilliseconds", 1_209_600_000L);
+        setField(provider, "cacheSize", cacheSize);
+        provider.init();
+        return provider;
+    }
+
+    private static Authentication authentication(String email) {
+        return new UsernamePasswordAuthenticationToken(email, "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ticket.portfolio.benchmark;
+
+import com.ticket.portfolio.ConcertInfo;
+import com.ticket.portfolio.ConcertListResponse;
+import com.ticket.portfolio.Seat;
+import com.ticket.portfolio.SeatListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TicketGrpcService 응답 생성 + 직렬화 비용 (좌석 수별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProtoResponseBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int size;
+
+    private String[] statuses;
+
+    @Setup
+    public void setup() {
+        statuses = new String[size];
+        for (int i = 0; i < size; i++) {
+            statuses[i] = i % 3 == 0 ? "RESERVED" : "AVAILABLE";
+        }
+    }
+
+    @Benchmark
+    public byte[] seatListResponse() {
+        SeatListResponse.Builder builder = SeatListResponse.newBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.addSeats(Seat.newBuilder()
+                    .setSeatId(i + 1)
+                    .setSeatNumber(i + 1)
+                    .setStatus(statuses[i])
+                    .build());
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Benchmark
+    public byte[] seatListResponseWithLayout() {
+        SeatListResponse.Builder builder = SeatListResponse.newBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.addSeats(Seat.newBuilder()
+                    .setSeatId(-(1_000_000L + i + 1))
+                    .setSeatNumber(i + 1)
+                    .setStatus(statuses[i])
+                    .setSection("FLOOR-" + (i / 1000))
+                    .setRow(i / 50 + 1)
+                    .setNumberInRow(i % 50 + 1)
+                    .build());
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Benchmark
+    public byte[] concertListResponse() {
+        ConcertListResponse.Builder builder = ConcertListResponse.newBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.addConcerts(ConcertInfo.newBuilder()
+                    .setConcertId(i + 1)
+                    .setTitle("Concert " + i)
+                    .setConcertDate("2026-12-24 19:00:00")
+                    .setAvailableSeats(50)
+                    .setPrice(110000)
+                    .setVenue("Olympic Hall")
+                    .setImageUrl("/images/" + i + ".jpg")
+                    .build());
+        }
+        return builder.build().toByteArray();
+    }
+}
@@ -0,0 +1,85 @@
+package com.client.portfolio.client;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.function.Function;
+
+/**
+ * gRPC future stub 호출 → Spring MVC DeferredResult 변환
+ * 요청 스레드(Tomcat)는 호출만 걸고 바로 반환되며, 응답은 gRPC 이벤트 스레드에서 채워집니다.
+ * - 브라우저 연결이 끊기거나(onError) 비동기 요청 시간이 초과되면(onTimeout) gRPC 호출도 취소
+ *   → 서버 측 Context가 취소되어 더 이상 필요 없는 작업을 멈출 수 있음
+ * - 응답 변환(mapper)은 가벼운 작업만 (gRPC 이벤트 스레드에서 실행됨)
+ */
+@Slf4j
+public final class GrpcDeferredResults {
+
+    private GrpcDeferredResults() {
+    }
+
+    /**
+     * 실패는 DeferredResult 오류로 넘겨 동기 처리 때와 같은 예외 처리(GlobalExceptionHandler)를 탐
+     */
+    public static <T, R> DeferredResult<R> of(ListenableFuture<T> call, Function<? super T, ? extends R> mapper) {
+        return of(call, mapper, null);
+    }
+
+    /**
+     * @param fallback 실패 시 응답 (null이면 DeferredResult 오류로 전달)
+     */
+    public static <T, R> DeferredResult<R> of(ListenableFuture<T> call, Function<? super T, ? extends R> mapper,
+            Function<Throwable, ? extends R> fallback) {
+        // 시간 제한은 spring.mvc.async.request-timeout, 실제 호출 제한은 gRPC deadline
+        DeferredResult<R> result = new DeferredResult<>();
+        result.onTimeout(() -> {
+            call.cancel(true);
+            Throwable timeout = Status.DEADLINE_EXCEEDED
+                    .withDescription("client-service async request timed out")
+                    .asRuntimeException();
+            complete(result, fallback, timeout);
+        });
+        result.onError(error -> {
+            log.debug("Async request aborted, cancelling gRPC call: {}", error.getMessage());
+            call.cancel(true);
+        });
+
+        Futures.addCallback(call, new FutureCallback<T>() {
+            @Override
+            public void onSuccess(T value) {
+                try {
+                    result.setResult(mapper.apply(value));
+                } catch (RuntimeException e) {
+                    result.setErrorResult(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable error) {
+                if (call.isCancelled()) {
+                    return;
+                }
+                complete(result, fallback, error);
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    private static <R> void complete(DeferredResult<R> result, Function<Throwable, ? extends R> fallback,
+            Throwable error) {
+        if (fallback == null) {
+            result.setErrorResult(error);
+            return;
+        }
+        try {
+            result.setResult(fallback.apply(error));
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.client.portfolio.client;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 여러 gRPC 호출을 동시에 보내고 하나의 응답으로 합침 (요청 범위 fan-out)
+ * - 모든 호출은 join() 전에 동시에 시작되고, 응답은 가장 느린 호출 시간(최대 budget)만큼만 기다림
+ * - budget 안에 끝나지 않은 호출은 취소하고 errors에 DEADLINE_EXCEEDED로 기록 → 나머지 결과로 응답 (부분 실패 허용)
+ * - 브라우저 연결이 끊기면 남은 호출 모두 취소
+ * 한 번만 join할 수 있으며, 요청 스레드에서만 사용합니다.
+ */
+@Slf4j
+public final class GrpcFanOut {
+
+    private final Map<String, ListenableFuture<?>> parts = new LinkedHashMap<>();
+
+    /**
+     * @param mapper 응답 → JSON 값 변환 (gRPC 이벤트 스레드에서 실행되므로 가벼운 작업만)
+     */
+    public <T> GrpcFanOut add(String name, ListenableFuture<T> call, Function<? super T, ?> mapper) {
+        parts.put(name, Futures.transform(call, mapper::apply, MoreExecutors.directExecutor()));
+        return this;
+    }
+
+    /**
+     * @param budgetMs  전체 대기 시간 상한
+     * @param assembler 부분 결과 → 최종 응답
+     */
+    public <R> DeferredResult<R> join(long budgetMs, Function<Result, ? extends R> assembler) {
+        DeferredResult<R> deferred = new DeferredResult<>(budgetMs);
+        AtomicBoolean finished = new AtomicBoolean();
+        Runnable finish = () -> {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            Result result = collect();
+            try {
+                deferred.setResult(assembler.apply(result));
+            } catch (RuntimeException e) {
+                deferred.setErrorResult(e);
+            }
+        };
+
+        deferred.onTimeout(finish);
+        deferred.onError(error -> {
+            finished.set(true);
+            cancelAll();
+        });
+        Futures.whenAllComplete(new ArrayList<>(parts.values())).run(finish, MoreExecutors.directExecutor());
+        return deferred;
+    }
+
+    // 끝난 호출은 결과/오류를 모으고, 아직 진행 중인 호출은 취소
+    private Result collect() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (Map.Entry<String, ListenableFuture<?>> part : parts.entrySet()) {
+            ListenableFuture<?> future = part.getValue();
+            if (!future.isDone()) {
+                future.cancel(true);
+                errors.put(part.getKey(), Status.Code.DEADLINE_EXCEEDED.name());
+                continue;
+            }
+            try {
+                values.put(part.getKey(), Futures.getDone(future));
+            } catch (ExecutionException e) {
+                log.warn("Fan-out part '{}' failed: {}", part.getKey(), e.getCause().getMessage());
+                errors.put(part.getKey(), errorCode(e.getCause()));
+            } catch (RuntimeException e) {
+                // 취소 등
+                errors.put(part.getKey(), Status.Code.CANCELLED.name());
+            }
+        }
+        return new Result(values, errors);
+    }
+
+    private void cancelAll() {
+        List<ListenableFuture<?>> pending = new ArrayList<>(parts.values());
+        for (ListenableFuture<?> future : pending) {
+            future.cancel(true);
+        }
+    }
+
+    private static String errorCode(Throwable error) {
+        if (error instanceof StatusRuntimeException statusError) {
+            return statusError.getStatus().getCode().name();
+        }
+        return "ERROR";
+    }
+
+    /**
+     * @param values 성공한 호출 (이름 → 변환된 값)
+     * @param errors 실패/시간 초과 호출 (이름 → gRPC 상태 코드)
+     */
+    public record Result(Map<String, Object> values, Map<String, String> errors) {
+    }
+}
@@ -1,27 +1,68 @@
 package com.client.portfolio.client;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ticket.portfolio.*;
+import com.ticket.portfolio.loadbalancing.ConcertAffinity;
 import io.grpc.Metadata;
 import io.grpc.stub.MetadataUtils;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 티켓 서버 gRPC 클라이언트
+ * - 사용자 요청 경로(대기열/좌석/예약/조회)는 future stub으로 호출해 요청 스레드를 잡아두지 않음
+ *   (컨트롤러에서 GrpcDeferredResults로 응답 변환)
+ * - 관리자 기능/로그인 경로는 blocking stub 유지
+ * 모든 호출에 deadline을 걸어, 느린 서버 때문에 요청이 무한정 쌓이지 않도록 합니다.
+ */
 @Service
 public class TicketServiceClient {
 
     @GrpcClient("ticket-server")
     private TicketServiceGrpc.TicketServiceBlockingStub ticketStub;
 
-    public TokenResponse issueToken(long concertId, String userId) {
+    @GrpcClient("ticket-server")
+    private TicketServiceGrpc.TicketServiceFutureStub ticketFutureStub;
+
+    @Value("${ticket.grpc.deadline-ms:3000}")
+    private long deadlineMs;
+
+    // 공연 등록/부하 테스트 등 관리자 작업은 오래 걸릴 수 있음
+    @Value("${ticket.grpc.admin-deadline-ms:30000}")
+    private long adminDeadlineMs;
+
+    private TicketServiceGrpc.TicketServiceFutureStub futureStub() {
+        return ticketFutureStub.withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS);
+    }
+
+    private TicketServiceGrpc.TicketServiceBlockingStub blockingStub() {
+        return ticketStub.withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS);
+    }
+
+    private TicketServiceGrpc.TicketServiceBlockingStub adminStub() {
+        return ticketStub.withDeadlineAfter(adminDeadlineMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static Metadata bearer(String token) {
+        Metadata headers = new Metadata();
+        Metadata.Key<String> authKey = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
+        headers.put(authKey, "Bearer " + token);
+        return headers;
+    }
+
+    public ListenableFuture<TokenResponse> issueToken(long concertId, String userId) {
         TokenRequest request = TokenRequest.newBuilder()
                 .setConcertId(concertId)
                 .setUserId(userId)
                 .build();
-        return ticketStub.issueToken(request);
+        return ConcertAffinity.withConcertOption(futureStub(), concertId).issueToken(request);
     }
 
-    public ConcertListResponse getConcerts() {
-        return ticketStub.getConcerts(GetConcertsRequest.newBuilder().build());
+    public ListenableFuture<ConcertListResponse> getConcerts() {
+        return futureStub().getConcerts(GetConcertsRequest.newBuilder().build());
     }
 
     public RegisterConcertResponse registerConcert(String title, int seatCount, String concertDate, long price,
@@ -34,16 +75,53 @@ public class TicketServiceClient {
                 .setVenue(venue != null ? venue : "")
                 .setImageUrl(imageUrl != null ? imageUrl : "")
                 .build();
-        return ticketStub.registerConcert(request);
+        return adminStub().registerConcert(request);
     }
 
-    public SeatListResponse getAvailableSeats(String token, long concertId) {
-        Metadata headers = new Metadata();
-        Metadata.Key<String> authKey = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
-        headers.put(authKey, "Bearer " + token);
+    // 배치도 기반 등록 (여러 회차를 한 번에 등록, 좌석 행은 예약 시 생성)
+    public RegisterConcertResponse registerConcertWithLayout(String adminToken, String title, long venueLayoutId,
+            java.util.List<String> concertDates, long price, String venue, String imageUrl) {
+        RegisterConcertRequest request = RegisterConcertRequest.newBuilder()
+                .setAdminToken(adminToken)
+                .setTitle(title)
+                .setVenueLayoutId(venueLayoutId)
+                .setConcertDate(concertDates.get(0))
+                .addAllConcertDates(concertDates.subList(1, concertDates.size()))
+                .setPrice(price)
+                .setVenue(venue != null ? venue : "")
+                .setImageUrl(imageUrl != null ? imageUrl : "")
+                .build();
+        return adminStub().registerConcert(request);
+    }
+
+    public RegisterVenueLayoutResponse registerVenueLayout(String adminToken, String name,
+            java.util.List<VenueSectionSpec> sections) {
+        RegisterVenueLayoutRequest request = RegisterVenueLayoutRequest.newBuilder()
+                .setAdminToken(adminToken)
+                .setName(name)
+                .addAllSections(sections)
+                .build();
+        return adminStub().registerVenueLayout(request);
+    }
+
+    public DebugFillQueueResponse debugFillQueue(String adminToken, long concertId, int count, int activeCount,
+            int batchSize, int heartbeatSeconds, int keepAliveSeconds) {
+        DebugFillQueueRequest request = DebugFillQueueRequest.newBuilder()
+                .setAdminToken(adminToken)
+                .setConcertId(concertId)
+                .setCount(count)
+                .setActiveCount(activeCount)
+                .setBatchSize(batchSize)
+                .setHeartbeatSeconds(heartbeatSeconds)
+                .setKeepAliveSeconds(keepAliveSeconds)
+                .build();
+        return adminStub().debugFillQueue(request);
+    }
 
-        TicketServiceGrpc.TicketServiceBlockingStub stubWithAuth = ticketStub
-                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    public ListenableFuture<SeatListResponse> getAvailableSeats(String token, long concertId) {
+        TicketServiceGrpc.TicketServiceFutureStub stubWithAuth = futureStub()
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)),
+                        ConcertAffinity.interceptor(concertId));
 
         SeatSearchRequest request = SeatSearchRequest.newBuilder()
                 .setToken(token)
@@ -53,41 +131,40 @@ public class TicketServiceClient {
         return stubWithAuth.getAvailableSeats(request);
     }
 
-    public ReservationResponse reserveSeat(String token, String userId, java.util.List<Long> seatIds) {
-        Metadata headers = new Metadata();
-        Metadata.Key<String> authKey = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
-        headers.put(authKey, "Bearer " + token);
-
-        TicketServiceGrpc.TicketServiceBlockingStub stubWithAuth = ticketStub
-                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    // concertOptionId: 좌석이 속한 회차 (서버가 좌석과 대조), 회차 친화 라우팅 키로도 사용
+    public ListenableFuture<ReservationResponse> reserveSeat(String token, String userId,
+            java.util.List<Long> seatIds, long concertOptionId) {
+        TicketServiceGrpc.TicketServiceFutureStub stubWithAuth = ConcertAffinity.withConcertOption(futureStub()
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token))), concertOptionId);
 
         ReservationRequest request = ReservationRequest.newBuilder()
                 .setToken(token)
                 .setUserId(userId)
                 .addAllSeatIds(seatIds)
+                .setConcertOptionId(concertOptionId)
                 .build();
 
         return stubWithAuth.reserveSeat(request);
     }
 
-    public MyReservationListResponse getMyReservations(String userId) {
+    public ListenableFuture<MyReservationListResponse> getMyReservations(String userId) {
         GetMyReservationsRequest request = GetMyReservationsRequest.newBuilder()
                 .setUserId(userId)
                 .build();
-        return ticketStub.getMyReservations(request);
+        return futureStub().getMyReservations(request);
     }
 
-    public GetReservationDetailsResponse getReservationDetails(java.util.List<Long> reservationIds) {
+    public ListenableFuture<GetReservationDetailsResponse> getReservationDetails(java.util.List<Long> reservationIds) {
         GetReservationDetailsRequest request = GetReservationDetailsRequest.newBuilder()
                 .addAllReservationIds(reservationIds)
                 .build();
-        return ticketStub.getReservationDetails(request);
+        return futureStub().getReservationDetails(request);
     }
 
     public GetUserByEmailResponse getUserByEmail(String email) {
         GetUserByEmailRequest request = GetUserByEmailRequest.newBuilder()
                 .setEmail(email)
                 .build();
-        return ticketStub.getUserByEmail(request);
+        return blockingStub().getUserByEmail(request);
     }
 }
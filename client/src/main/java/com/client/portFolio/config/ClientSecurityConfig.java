@@ -2,6 +2,7 @@ package com.client.portfolio.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -23,6 +24,9 @@ public class ClientSecurityConfig {
                                                                 "/js/**", "/auth/callback",
                                                                 "/api/seats")
                                                 .permitAll()
+                                                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                                                // 공개 공연 목록 (게이트웨이가 사용자 구분 없이 캐시하는 응답)
+                                                .requestMatchers(HttpMethod.GET, "/api/concerts").permitAll()
                                                 .anyRequest().authenticated())
                                 .authenticationProvider(authProvider) // gRPC 인증 프로바이더 등록
                                 .formLogin(form -> form
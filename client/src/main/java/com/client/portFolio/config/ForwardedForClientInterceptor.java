@@ -0,0 +1,53 @@
+package com.client.portfolio.config;
+
+import com.ticket.portfolio.identity.ForwardedFor;
+import com.ticket.portfolio.identity.InternalCallHeaders;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+import jakarta.servlet.http.HttpServletRequest;
+import net.devh.boot.grpc.client.interceptor.GrpcGlobalClientInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 사용자 IP 전달 + 내부 호출 서명
+ * 티켓 서버는 모든 gRPC 요청을 이 웹 서버의 IP로 보게 되므로, 브라우저 요청 처리 중인 호출에는
+ * 원래 사용자 IP를 x-forwarded-for 메타데이터로 실어 보냄 (서버의 IP 차단/빈도 제한용)
+ * - 사용자 IP는 연결 주소, 앞단 프록시를 신뢰하도록 설정한 경우에만 X-Forwarded-For의 신뢰 구간 값 (ForwardedFor)
+ * - 서버가 이 값을 믿을 수 있도록 서비스 이름/사용자 IP에 서명 (InternalCallHeaders, ticket.identity.secret)
+ */
+@GrpcGlobalClientInterceptor
+public class ForwardedForClientInterceptor implements ClientInterceptor {
+
+    private final ClientInterceptor delegate;
+    private final boolean trustForwardedFor;
+    private final int trustedProxyHops;
+
+    public ForwardedForClientInterceptor(@Value("${spring.application.name}") String applicationName,
+            @Value("${ticket.identity.secret}") String identitySecret,
+            @Value("${ticket.client-ip.trust-forwarded-for:false}") boolean trustForwardedFor,
+            @Value("${ticket.client-ip.trusted-proxy-hops:1}") int trustedProxyHops) {
+        this.trustForwardedFor = trustForwardedFor;
+        this.trustedProxyHops = trustedProxyHops;
+        this.delegate = InternalCallHeaders.clientInterceptor(identitySecret, applicationName, this::currentClientIp);
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions, Channel next) {
+        return delegate.interceptCall(method, callOptions, next);
+    }
+
+    private String currentClientIp() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        return ForwardedFor.clientIp(request.getHeader("X-Forwarded-For"), request.getRemoteAddr(),
+                trustForwardedFor ? trustedProxyHops : 0);
+    }
+}
@@ -1,5 +1,6 @@
 package com.client.portfolio.controller;
 
+import com.client.portfolio.client.GrpcDeferredResults;
 import com.client.portfolio.service.AiServiceClient;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -32,40 +34,37 @@ public class ChatController {
 
     /**
      * AI 채팅 API
+     * AI 응답을 기다리는 동안 요청 스레드를 점유하지 않으며, 사용자가 페이지를 떠나면 AI 호출도 취소됩니다.
      */
     @PostMapping("/api/chat")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> chat(
+    public DeferredResult<ResponseEntity<Map<String, Object>>> chat(
             @RequestBody ChatRequestDto request,
             Authentication authentication) {
 
-        Map<String, Object> response = new HashMap<>();
+        String userId = authentication != null ? authentication.getName() : "anonymous";
+        log.info("Chat request from user: {}, message: {}", userId, request.getMessage());
 
-        try {
-            String userId = authentication != null ? authentication.getName() : "anonymous";
-            log.info("Chat request from user: {}, message: {}", userId, request.getMessage());
-
-            // 컨텍스트가 있으면 메시지에 포함
-            String enhancedMessage = request.getMessage();
-            if (request.getContext() != null && !request.getContext().isEmpty()) {
-                enhancedMessage = "=== 현재 페이지 정보 ===\n" + request.getContext() + "\n\n=== 사용자 질문 ===\n" + request.getMessage();
-            }
-
-            String aiResponse = aiServiceClient.chat(userId, enhancedMessage);
+        // 컨텍스트가 있으면 메시지에 포함
+        String enhancedMessage = request.getMessage();
+        if (request.getContext() != null && !request.getContext().isEmpty()) {
+            enhancedMessage = "=== 현재 페이지 정보 ===\n" + request.getContext() + "\n\n=== 사용자 질문 ===\n" + request.getMessage();
+        }
 
+        return GrpcDeferredResults.of(aiServiceClient.chat(userId, enhancedMessage), aiResponse -> {
+            Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", aiResponse);
-
             return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
+        }, e -> {
             log.error("Error processing chat request", e);
 
+            Map<String, Object> response = new HashMap<>();
             response.put("success", false);
             response.put("error", "죄송합니다. 죄송합니다. AI 서비스 처리 중 오류가 발생했습니다.");
 
             return ResponseEntity.status(500).body(response);
-        }
+        });
     }
 
     @Data
@@ -1,12 +1,26 @@
 package com.client.portfolio.controller;
 
+import com.client.portfolio.client.GrpcDeferredResults;
+import com.client.portfolio.client.GrpcFanOut;
 import com.client.portfolio.client.TicketServiceClient;
 import com.ticket.portfolio.*;
+import com.ticket.portfolio.admission.AdmissionTicket;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.util.WebUtils;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,57 +34,178 @@ public class DashboardApiController {
 
     private final TicketServiceClient ticketServiceClient;
 
+    @Value("${ticket.admission.secret}")
+    private String admissionSecret;
+
+    @Value("${ticket.admission.ttl-seconds:600}")
+    private long admissionTtlSeconds;
+
+    // 대시보드 첫 화면 구성 시 기다리는 최대 시간 (넘은 항목은 빼고 응답)
+    @Value("${ticket.bootstrap.budget-ms:1500}")
+    private long bootstrapBudgetMs;
+
+    // 사용자 요청 경로는 gRPC 응답을 기다리는 동안 요청 스레드를 반환 (GrpcDeferredResults)
+    // 사용자와 무관한 공개 목록 - 게이트웨이 응답 캐시가 짧게 보관 (Spring Security 기본 no-store 대체)
     @GetMapping("/concerts")
-    public Map<String, Object> getConcerts() {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> getConcerts() {
         log.info("Fetching concert listings");
-        ConcertListResponse response = ticketServiceClient.getConcerts();
+        return GrpcDeferredResults.of(ticketServiceClient.getConcerts(), response -> ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(5)).cachePublic())
+                .body(toConcertsResult(response)));
+    }
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("concerts", response.getConcertsList().stream().map(c -> {
-            Map<String, Object> map = new HashMap<>();
-            map.put("concertId", c.getConcertId());
-            map.put("title", c.getTitle());
-            map.put("date", c.getConcertDate());
-            map.put("availableSeats", c.getAvailableSeats());
-            map.put("price", c.getPrice());
-            map.put("venue", c.getVenue());
-            map.put("imageUrl", c.getImageUrl());
-            return map;
-        }).collect(Collectors.toList()));
+    /**
+     * 대시보드 첫 화면 데이터를 한 번에 조회
+     * 공연 목록, 내 예약, (concertId가 있으면) 대기열 상태와 좌석을 동시에 호출해 합친 응답을 반환합니다.
+     * 좌석은 이미 그 회차의 입장 쿠키를 가진 사용자에게만 포함 (게이트웨이 대기실 필터를 거치지 않는 경로이므로)
+     * 첫 화면 지연 = 호출 시간의 합이 아니라 가장 느린 호출 시간 (최대 ticket.bootstrap.budget-ms)
+     * 실패하거나 시간 안에 끝나지 않은 항목은 빠지고 errors에 항목별 상태 코드가 담깁니다.
+     * 각 항목의 형식은 개별 API(/api/concerts, /api/my-reservations, /api/queue/token, /api/seats)와 같습니다.
+     */
+    @GetMapping("/bootstrap")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> bootstrap(
+            @RequestParam(required = false) Long concertId, HttpServletRequest httpRequest) {
+        GrpcFanOut fanOut = new GrpcFanOut()
+                .add("concerts", ticketServiceClient.getConcerts(), DashboardApiController::toConcertsResult);
 
-        return result;
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        com.client.portfolio.security.UserPrincipal principal =
+                auth != null && auth.getPrincipal() instanceof com.client.portfolio.security.UserPrincipal p ? p : null;
+        String userId = principal != null ? String.valueOf(principal.getUserId()) : null;
+        if (principal != null) {
+            fanOut.add("myReservations", ticketServiceClient.getMyReservations(userId),
+                    DashboardApiController::toMyReservationsResult);
+            if (concertId != null) {
+                fanOut.add("queue", ticketServiceClient.issueToken(concertId, userId), response -> response);
+                if (isAdmitted(httpRequest, concertId, userId)) {
+                    fanOut.add("seats", ticketServiceClient.getAvailableSeats(principal.getAccessToken(), concertId),
+                            DashboardApiController::toSeatsResult);
+                }
+            }
+        }
+        log.info("Bootstrapping dashboard: userId={}, concertId={}", userId, concertId);
+
+        return fanOut.join(bootstrapBudgetMs, parts -> {
+            Map<String, Object> result = new HashMap<>(parts.values());
+            result.put("errors", parts.errors());
+            result.put("authenticated", principal != null);
+
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+            if (result.get("queue") instanceof TokenResponse queue) {
+                result.put("queue", toQueueResult(queue));
+                if (queue.getCanEnter()) {
+                    builder.header(HttpHeaders.SET_COOKIE, admissionCookie(concertId, userId).toString());
+                }
+            }
+            return builder.body(result);
+        });
     }
 
     @PostMapping("/concerts")
     public Map<String, Object> registerConcert(@RequestBody Map<String, Object> request) {
-        // 관리자만 등록 가능
+        // 관리자만 등록 가능 (서버 측에서도 권한 재확인)
         var auth = SecurityContextHolder.getContext().getAuthentication();
-        boolean isAdmin = auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
-        if (!isAdmin) {
+        if (auth == null || !(auth.getPrincipal() instanceof com.client.portfolio.security.UserPrincipal principal)
+                || auth.getAuthorities().stream().noneMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
             return Map.of("success", false, "message", "관리자만 공연을 등록할 수 있습니다.");
         }
 
         String title = (String) request.get("title");
-        int seatCount = (Integer) request.get("seatCount");
         String date = (String) request.get("date");
         long price = Long.parseLong(request.getOrDefault("price", "0").toString());
         String venue = (String) request.getOrDefault("venue", "");
         String imageUrl = (String) request.getOrDefault("imageUrl", "");
 
-        log.info("Registering new concert: {} at {}, price {}", title, venue, price);
-        RegisterConcertResponse response = ticketServiceClient.registerConcert(title, seatCount, date, price, venue,
-                imageUrl);
+        RegisterConcertResponse response;
+        if (request.get("venueLayoutId") != null) {
+            // 배치도 기반 등록: date + additionalDates 회차를 한 번에 생성
+            long venueLayoutId = Long.parseLong(request.get("venueLayoutId").toString());
+            List<String> dates = new java.util.ArrayList<>();
+            dates.add(date);
+            @SuppressWarnings("unchecked")
+            List<String> additionalDates = (List<String>) request.getOrDefault("additionalDates", List.of());
+            dates.addAll(additionalDates);
+
+            log.info("Registering new concert: {} at {} with layout {}, dates {}", title, venue, venueLayoutId, dates);
+            response = ticketServiceClient.registerConcertWithLayout(principal.getAccessToken(), title, venueLayoutId,
+                    dates, price, venue, imageUrl);
+        } else {
+            int seatCount = (Integer) request.get("seatCount");
+            log.info("Registering new concert: {} at {}, price {}", title, venue, price);
+            response = ticketServiceClient.registerConcert(title, seatCount, date, price, venue, imageUrl);
+        }
 
         Map<String, Object> result = new HashMap<>();
         result.put("success", response.getSuccess());
         result.put("message", response.getMessage());
         result.put("concertId", response.getConcertId());
+        result.put("concertIds", response.getConcertIdsList());
         return result;
     }
 
+    @PostMapping("/venue-layouts")
+    public Map<String, Object> registerVenueLayout(@RequestBody Map<String, Object> request) {
+        // 관리자만 등록 가능 (서버 측에서도 권한 재확인)
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof com.client.portfolio.security.UserPrincipal principal)
+                || auth.getAuthorities().stream().noneMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+            return Map.of("success", false, "message", "관리자만 배치도를 등록할 수 있습니다.");
+        }
+
+        String name = (String) request.get("name");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> sections = (List<Map<String, Object>>) request.get("sections");
+        List<VenueSectionSpec> specs = sections.stream()
+                .map(s -> VenueSectionSpec.newBuilder()
+                        .setName(s.get("name").toString())
+                        .setRowCount(Integer.parseInt(s.get("rowCount").toString()))
+                        .setSeatsPerRow(Integer.parseInt(s.get("seatsPerRow").toString()))
+                        .build())
+                .collect(Collectors.toList());
+
+        log.info("Registering venue layout: {} ({} sections)", name, specs.size());
+        RegisterVenueLayoutResponse response = ticketServiceClient.registerVenueLayout(principal.getAccessToken(), name, specs);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", response.getSuccess());
+        result.put("message", response.getMessage());
+        result.put("layoutId", response.getLayoutId());
+        result.put("totalSeats", response.getTotalSeats());
+        return result;
+    }
+
+    // 대기열 부하 테스트: 가상 유저 주입 (관리자 전용, 서버 측에서도 권한 재확인)
+    @PostMapping("/admin/debug/fill-queue")
+    public Map<String, Object> debugFillQueue(@RequestBody Map<String, Object> request) {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof com.client.portfolio.security.UserPrincipal principal)
+                || auth.getAuthorities().stream().noneMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+            return Map.of("success", false, "message", "관리자만 사용할 수 있습니다.");
+        }
+
+        long concertId = Long.parseLong(request.get("concertId").toString());
+        int count = Integer.parseInt(request.getOrDefault("count", "0").toString());
+        int activeCount = Integer.parseInt(request.getOrDefault("activeCount", "0").toString());
+        int batchSize = Integer.parseInt(request.getOrDefault("batchSize", "0").toString());
+        int heartbeatSeconds = Integer.parseInt(request.getOrDefault("heartbeatSeconds", "0").toString());
+        int keepAliveSeconds = Integer.parseInt(request.getOrDefault("keepAliveSeconds", "0").toString());
+
+        DebugFillQueueResponse response = ticketServiceClient.debugFillQueue(principal.getAccessToken(), concertId,
+                count, activeCount, batchSize, heartbeatSeconds, keepAliveSeconds);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", response.getSuccess());
+        result.put("message", response.getMessage());
+        result.put("queueCount", response.getCurrentCount());
+        result.put("activeCount", response.getActiveCount());
+        result.put("insertsPerSecond", response.getInsertsPerSecond());
+        result.put("elapsedMs", response.getElapsedMs());
+        return result;
+    }
+
+    // 인증 실패는 401 - 게이트웨이가 회차별로 병합하는 응답이므로 다른 사용자에게 공유되지 않도록 (2xx만 공유)
     @GetMapping("/seats")
-    public Map<String, Object> getSeats(@RequestParam Long concertId) {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> getSeats(@RequestParam Long concertId) {
         var auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth != null && auth.getPrincipal() instanceof com.client.portfolio.security.UserPrincipal) {
             com.client.portfolio.security.UserPrincipal principal = (com.client.portfolio.security.UserPrincipal) auth
@@ -78,62 +213,68 @@ public class DashboardApiController {
             String token = principal.getAccessToken();
             log.info("Fetching seats for concertOptionId: {}", concertId);
 
-            SeatListResponse response = ticketServiceClient.getAvailableSeats(token, concertId);
-
-            Map<String, Object> result = new HashMap<>();
-
-            if (response.getQueueActive()) {
-                result.put("status", "QUEUE");
-                result.put("message", "Traffic is high. Please wait.");
-                // Optionally provide token/info if we implemented it in proto
-                return result;
-            }
-
-            result.put("status", "OK");
-            result.put("seats", response.getSeatsList().stream().map(s -> {
-                Map<String, Object> seatMap = new HashMap<>();
-                seatMap.put("seatId", s.getSeatId());
-                seatMap.put("seatNumber", s.getSeatNumber());
-                seatMap.put("status", s.getStatus());
-                return seatMap;
-            }).collect(Collectors.toList()));
-
-            return result;
-
+            return GrpcDeferredResults.of(ticketServiceClient.getAvailableSeats(token, concertId),
+                    response -> ResponseEntity.ok(toSeatsResult(response)));
         }
 
         Map<String, Object> errorResult = new HashMap<>();
         errorResult.put("error", "인증 정보가 유효하지 않습니다.");
-        return errorResult;
+        return completed(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResult));
     }
 
     @GetMapping("/queue/token")
-    public Map<String, Object> checkQueueToken(@RequestParam Long concertId) {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> checkQueueToken(@RequestParam Long concertId) {
         var auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !(auth.getPrincipal() instanceof com.client.portfolio.security.UserPrincipal)) {
             Map<String, Object> err = new HashMap<>();
             err.put("error", "Unauthorized");
-            return err;
+            return completed(ResponseEntity.ok(err));
         }
         com.client.portfolio.security.UserPrincipal principal = (com.client.portfolio.security.UserPrincipal) auth
                 .getPrincipal();
         String userId = String.valueOf(principal.getUserId());
 
-        TokenResponse response = ticketServiceClient.issueToken(concertId, userId);
+        return GrpcDeferredResults.of(ticketServiceClient.issueToken(concertId, userId), response -> {
+            Map<String, Object> result = toQueueResult(response);
+            if (!response.getCanEnter()) {
+                return ResponseEntity.ok(result);
+            }
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, admissionCookie(concertId, userId).toString())
+                    .body(result);
+        });
+    }
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("token", response.getToken());
-        result.put("waitPosition", response.getWaitPosition());
-        result.put("estimatedWaitSeconds", response.getEstimatedWaitSeconds());
-        result.put("canEnter", response.getCanEnter());
-        return result;
+    // 게이트웨이 대기실 필터가 좌석/예약 경로에서 확인하는 입장 쿠키
+    private ResponseCookie admissionCookie(long concertId, String userId) {
+        long expiresAt = System.currentTimeMillis() / 1000 + admissionTtlSeconds;
+        return ResponseCookie.from(AdmissionTicket.cookieName(concertId),
+                        AdmissionTicket.issue(admissionSecret, concertId, userId, expiresAt))
+                .httpOnly(true)
+                .path("/")
+                .sameSite("Lax")
+                .maxAge(admissionTtlSeconds)
+                .build();
+    }
+
+    private boolean isAdmitted(HttpServletRequest request, long concertId, String userId) {
+        Cookie cookie = WebUtils.getCookie(request, AdmissionTicket.cookieName(concertId));
+        if (cookie == null) {
+            return false;
+        }
+        AdmissionTicket ticket = AdmissionTicket.verify(admissionSecret, cookie.getValue(),
+                System.currentTimeMillis() / 1000);
+        return ticket != null && ticket.getConcertId() == concertId && userId.equals(ticket.getSubject());
     }
 
+    // concertId는 쿼리 파라미터로 받음 - 게이트웨이 대기실 필터가 같은 값으로 해당 회차의 입장 쿠키를 확인
     @PostMapping("/reserve")
-    public Map<String, Object> reserveSeat(@RequestBody Map<String, Object> request) {
-        @SuppressWarnings("unchecked")
-        List<Integer> seatIdsInt = (List<Integer>) request.get("seatIds");
-        List<Long> seatIds = seatIdsInt.stream().map(Long::valueOf).collect(java.util.stream.Collectors.toList());
+    public DeferredResult<Map<String, Object>> reserveSeat(@RequestParam Long concertId,
+            @RequestBody Map<String, Object> request, HttpServletRequest httpRequest) {
+        // 배치도 기반 회차의 가상 좌석 ID는 int 범위를 넘을 수 있으므로 Number로 받음
+        List<?> rawSeatIds = (List<?>) request.get("seatIds");
+        List<Long> seatIds = rawSeatIds.stream().map(id -> ((Number) id).longValue())
+                .collect(java.util.stream.Collectors.toList());
 
         var auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !(auth.getPrincipal() instanceof com.client.portfolio.security.UserPrincipal)) {
@@ -141,33 +282,46 @@ public class DashboardApiController {
             Map<String, Object> errorResult = new HashMap<>();
             errorResult.put("success", false);
             errorResult.put("message", "인증 정보가 유효하지 않습니다.");
-            return errorResult;
+            return completed(errorResult);
         }
         com.client.portfolio.security.UserPrincipal principal = (com.client.portfolio.security.UserPrincipal) auth
                 .getPrincipal();
         String userId = String.valueOf(principal.getUserId());
         String token = principal.getAccessToken();
 
-        log.info("Web reservation request: seatIds={}, userId={}", seatIds, userId);
-
-        ReservationResponse response = ticketServiceClient.reserveSeat(token, userId, seatIds);
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("success", response.getSuccess());
-        result.put("message", response.getMessage());
-        if (response.getSuccess()) {
-            result.put("reservationIds", response.getReservationIdsList());
+        // 게이트웨이를 거치지 않은 요청도 막도록 이 회차, 이 사용자의 입장 쿠키인지 다시 확인
+        if (!isAdmitted(httpRequest, concertId, userId)) {
+            Map<String, Object> errorResult = new HashMap<>();
+            errorResult.put("success", false);
+            errorResult.put("status", "QUEUE");
+            errorResult.put("message", "대기열 입장이 필요합니다.");
+            return completed(errorResult);
         }
-        return result;
+
+        log.info("Web reservation request: concertId={}, seatIds={}, userId={}", concertId, seatIds, userId);
+
+        return GrpcDeferredResults.of(ticketServiceClient.reserveSeat(token, userId, seatIds, concertId),
+                response -> {
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("success", response.getSuccess());
+                    result.put("message", response.getMessage());
+                    if (response.getSuccess()) {
+                        result.put("reservationIds", response.getReservationIdsList());
+                    } else if (!response.getErrorCode().isEmpty()) {
+                        result.put("errorCode", response.getErrorCode());
+                        result.put("retryAfterMs", response.getRetryAfterMs());
+                    }
+                    return result;
+                });
     }
 
     @GetMapping("/my-reservations")
-    public Map<String, Object> getMyReservations() {
+    public DeferredResult<Map<String, Object>> getMyReservations() {
         var auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !(auth.getPrincipal() instanceof com.client.portfolio.security.UserPrincipal)) {
             Map<String, Object> errorResult = new HashMap<>();
             errorResult.put("error", "인증 정보가 유효하지 않습니다.");
-            return errorResult;
+            return completed(errorResult);
         }
 
         com.client.portfolio.security.UserPrincipal principal = (com.client.portfolio.security.UserPrincipal) auth
@@ -175,8 +329,52 @@ public class DashboardApiController {
         String userId = String.valueOf(principal.getUserId());
 
         log.info("Fetching my reservations for userId: {}", userId);
-        MyReservationListResponse response = ticketServiceClient.getMyReservations(userId);
+        return GrpcDeferredResults.of(ticketServiceClient.getMyReservations(userId),
+                DashboardApiController::toMyReservationsResult);
+    }
 
+    private static <T> DeferredResult<T> completed(T value) {
+        DeferredResult<T> result = new DeferredResult<>();
+        result.setResult(value);
+        return result;
+    }
+
+    static Map<String, Object> toConcertsResult(ConcertListResponse response) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("concerts", response.getConcertsList().stream()
+                .map(DashboardApiController::toConcertMap)
+                .collect(Collectors.toList()));
+        return result;
+    }
+
+    static Map<String, Object> toSeatsResult(SeatListResponse response) {
+        Map<String, Object> result = new HashMap<>();
+
+        if (response.getQueueActive()) {
+            result.put("status", "QUEUE");
+            result.put("message", "Traffic is high. Please wait.");
+            // Optionally provide token/info if we implemented it in proto
+            return result;
+        }
+
+        result.put("status", "OK");
+        result.put("seats", response.getSeatsList().stream()
+                .map(DashboardApiController::toSeatMap)
+                .collect(Collectors.toList()));
+
+        return result;
+    }
+
+    static Map<String, Object> toQueueResult(TokenResponse response) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("token", response.getToken());
+        result.put("waitPosition", response.getWaitPosition());
+        result.put("estimatedWaitSeconds", response.getEstimatedWaitSeconds());
+        result.put("canEnter", response.getCanEnter());
+        return result;
+    }
+
+    static Map<String, Object> toMyReservationsResult(MyReservationListResponse response) {
         Map<String, Object> result = new HashMap<>();
         result.put("reservations", response.getReservationsList().stream().map(r -> {
             Map<String, Object> map = new HashMap<>();
@@ -192,4 +390,29 @@ public class DashboardApiController {
 
         return result;
     }
+
+    static Map<String, Object> toConcertMap(ConcertInfo c) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("concertId", c.getConcertId());
+        map.put("title", c.getTitle());
+        map.put("date", c.getConcertDate());
+        map.put("availableSeats", c.getAvailableSeats());
+        map.put("price", c.getPrice());
+        map.put("venue", c.getVenue());
+        map.put("imageUrl", c.getImageUrl());
+        return map;
+    }
+
+    static Map<String, Object> toSeatMap(Seat s) {
+        Map<String, Object> seatMap = new HashMap<>();
+        seatMap.put("seatId", s.getSeatId());
+        seatMap.put("seatNumber", s.getSeatNumber());
+        seatMap.put("status", s.getStatus());
+        if (!s.getSection().isEmpty()) {
+            seatMap.put("section", s.getSection());
+            seatMap.put("row", s.getRow());
+            seatMap.put("numberInRow", s.getNumberInRow());
+        }
+        return seatMap;
+    }
 }
@@ -1,16 +1,19 @@
 package com.client.portfolio.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Controller;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 @Slf4j
@@ -23,6 +26,10 @@ public class WebController {
     @Value("${TICKET_SERVER_URL:http://localhost:8081}")
     private String ticketServerUrl;
 
+    // 이미지 업로드 요청 전체(multipart) 크기 상한
+    @Value("${ticket.upload.max-size:5MB}")
+    private DataSize uploadMaxSize;
+
     private final RestTemplate restTemplate = new RestTemplate();
 
     @GetMapping("/login")
@@ -74,28 +81,63 @@ public class WebController {
         }
     }
 
+    /**
+     * 이미지 업로드 프록시 (스트리밍)
+     * multipart 본문을 여기서 해석/복사하지 않고, 받은 바이트를 그대로(boundary 포함) 티켓 서버로 흘려보냅니다.
+     * 메모리는 업로드 크기와 상관없이 요청당 복사 버퍼 하나만 사용합니다.
+     * (spring.servlet.multipart.resolve-lazily=true 이므로 이 요청의 본문은 읽히지 않은 상태로 도착)
+     * - Content-Length가 상한을 넘으면 본문을 읽기 전에 413
+     * - 길이를 모르는(chunked) 요청은 읽는 도중 상한을 넘는 순간 중단하고 413
+     */
     @PostMapping("/api/upload-image")
     @ResponseBody
-    public ResponseEntity<Map> uploadImageProxy(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<Map> uploadImageProxy(HttpServletRequest request) {
+        MediaType contentType;
         try {
-            String url = ticketServerUrl + "/api/upload-image";
+            contentType = MediaType.parseMediaType(request.getContentType());
+        } catch (RuntimeException e) {
+            contentType = null;
+        }
+        if (contentType == null || !MediaType.MULTIPART_FORM_DATA.includes(contentType)
+                || contentType.getParameter("boundary") == null) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                    .body(Map.of("success", false, "message", "multipart/form-data 요청만 업로드할 수 있습니다."));
+        }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        long maxBytes = uploadMaxSize.toBytes();
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > maxBytes) {
+            log.warn("Rejected image upload: Content-Length {} exceeds {}", contentLength, maxBytes);
+            return tooLarge();
+        }
 
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", new ByteArrayResource(file.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return file.getOriginalFilename();
+        try {
+            String url = ticketServerUrl + "/api/upload-image";
+            InputStream body = new BoundedInputStream(request.getInputStream(), maxBytes);
+            MediaType forwardedType = contentType;
+
+            ResponseEntity<Map> response = restTemplate.execute(url, HttpMethod.POST, outgoing -> {
+                outgoing.getHeaders().setContentType(forwardedType);
+                if (contentLength >= 0) {
+                    // 길이를 알면 fixed-length 스트리밍, 모르면 chunked
+                    outgoing.getHeaders().setContentLength(contentLength);
                 }
-            });
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, requestEntity, Map.class);
+                if (outgoing instanceof StreamingHttpOutputMessage streaming) {
+                    streaming.setBody(out -> StreamUtils.copy(body, out));
+                } else {
+                    StreamUtils.copy(body, outgoing.getBody());
+                }
+            }, restTemplate.responseEntityExtractor(Map.class));
 
             return ResponseEntity.status(response.getStatusCode()).body(response.getBody());
 
+        } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof UploadTooLargeException) {
+                log.warn("Rejected image upload: body exceeded {} bytes while streaming", maxBytes);
+                return tooLarge();
+            }
+            log.error("Image upload proxy error", e);
+            return ResponseEntity.status(500).body(Map.of("success", false, "message", "서버 오류가 발생했습니다."));
         } catch (org.springframework.web.client.HttpClientErrorException e) {
             log.error("Image upload proxy error: {}", e.getMessage());
             return ResponseEntity.status(e.getStatusCode())
@@ -105,4 +147,56 @@ public class WebController {
             return ResponseEntity.status(500).body(Map.of("success", false, "message", "서버 오류가 발생했습니다."));
         }
     }
+
+    private ResponseEntity<Map> tooLarge() {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .header(HttpHeaders.CONNECTION, "close")
+                .body(Map.of("success", false,
+                        "message", "파일이 너무 큽니다. (최대 " + uploadMaxSize.toMegabytes() + "MB)"));
+    }
+
+    private static class UploadTooLargeException extends IOException {
+        UploadTooLargeException(long maxBytes) {
+            super("Upload exceeds " + maxBytes + " bytes");
+        }
+    }
+
+    /**
+     * 읽은 바이트 수가 상한을 넘으면 UploadTooLargeException
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long count;
+
+        BoundedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            count += n;
+            if (count > maxBytes) {
+                throw new UploadTooLargeException(maxBytes);
+            }
+        }
+    }
 }
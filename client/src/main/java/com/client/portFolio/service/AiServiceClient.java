@@ -1,48 +1,55 @@
 package com.client.portfolio.service;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.ticket.portfolio.AIServiceGrpc;
 import com.ticket.portfolio.ChatRequest;
 import com.ticket.portfolio.ChatResponse;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 @Slf4j
 public class AiServiceClient {
 
     @GrpcClient("ai-service")
-    private AIServiceGrpc.AIServiceBlockingStub aiServiceStub;
+    private AIServiceGrpc.AIServiceFutureStub aiServiceStub;
+
+    // LLM 응답은 수 초 ~ 수십 초 걸릴 수 있음
+    @Value("${ticket.grpc.ai-deadline-ms:60000}")
+    private long deadlineMs;
 
     /**
-     * AI 서비스에 메시지를 전송하고 응답을 받습니다.
+     * AI 서비스에 메시지를 전송합니다. (응답을 기다리지 않고 future 반환)
+     * 반환된 future를 취소하면 gRPC 호출도 취소됩니다.
      * 
      * @param userId  사용자 ID
      * @param message 사용자 메시지
-     * @return AI 응답 메시지
+     * @return AI 응답 메시지 (AI 서비스가 오류를 반환하면 RuntimeException으로 실패)
      */
-    public String chat(String userId, String message) {
-        try {
-            log.info("Sending chat request to AI service - userId: {}, message: {}", userId, message);
-
-            ChatRequest request = ChatRequest.newBuilder()
-                    .setUserId(userId)
-                    .setMessage(message)
-                    .build();
-
-            ChatResponse response = aiServiceStub.chat(request);
-
+    public ListenableFuture<String> chat(String userId, String message) {
+        log.info("Sending chat request to AI service - userId: {}, message: {}", userId, message);
+
+        ChatRequest request = ChatRequest.newBuilder()
+                .setUserId(userId)
+                .setMessage(message)
+                .build();
+
+        ListenableFuture<ChatResponse> call = aiServiceStub
+                .withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS)
+                .chat(request);
+        return Futures.transform(call, response -> {
             if (response.getSuccess()) {
                 log.info("Received successful response from AI service");
                 return response.getMessage();
-            } else {
-                log.error("AI service returned error: {}", response.getError());
-                throw new RuntimeException("AI 서비스 오류: " + response.getError());
             }
-
-        } catch (Exception e) {
-            log.error("Error calling AI service", e);
-            throw new RuntimeException("AI 서비스 호출 실패: " + e.getMessage(), e);
-        }
+            log.error("AI service returned error: {}", response.getError());
+            throw new RuntimeException("AI 서비스 오류: " + response.getError());
+        }, MoreExecutors.directExecutor());
     }
 }
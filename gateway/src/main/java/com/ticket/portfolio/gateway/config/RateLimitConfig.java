@@ -0,0 +1,132 @@
+package com.ticket.portfolio.gateway.config;
+
+import com.ticket.portfolio.admission.AdmissionTicket;
+import com.ticket.portfolio.identity.ForwardedFor;
+import com.ticket.portfolio.identity.IdentityHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엣지 빈도 제한 (RequestRateLimiter + Redis 토큰 버킷)
+ * - ipRateLimiter/ipKeyResolver: 모든 경로에 적용되는 IP별 버킷 (default-filters)
+ * - userRateLimiter/userKeyResolver: 좌석/예약 경로에 추가로 적용되는 사용자별 버킷
+ * 버킷 키는 "ip:", "user:" 등 접두어로 구분되므로 두 버킷이 같은 Redis 키를 공유하지 않습니다.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Value("${ticket.gateway.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Value("${ticket.gateway.trusted-proxy-hops:1}")
+    private int trustedProxyHops;
+
+    @Value("${ticket.admission.secret}")
+    private String admissionSecret;
+
+    @Bean
+    @Primary
+    public RedisRateLimiter ipRateLimiter(
+            @Value("${ticket.rate-limit.ip.replenish-rate:20}") int replenishRate,
+            @Value("${ticket.rate-limit.ip.burst-capacity:40}") int burstCapacity) {
+        return new RedisRateLimiter(replenishRate, burstCapacity);
+    }
+
+    @Bean
+    public RedisRateLimiter userRateLimiter(
+            @Value("${ticket.rate-limit.user.replenish-rate:5}") int replenishRate,
+            @Value("${ticket.rate-limit.user.burst-capacity:10}") int burstCapacity) {
+        return new RedisRateLimiter(replenishRate, burstCapacity);
+    }
+
+    @Bean
+    @Primary
+    public KeyResolver ipKeyResolver() {
+        return exchange -> Mono.just("ip:" + clientIp(exchange.getRequest(), forwardedForHops()));
+    }
+
+    /**
+     * 사용자 식별 순서: 입장 쿠키의 사용자 → 검증된 JWT 사용자(X-User-Id) → 세션 쿠키 → IP
+     * X-User-Id는 JwtVerificationGlobalFilter가 외부 값을 제거한 뒤 붙인 값만 남습니다.
+     * 세션 값은 Redis 키에 그대로 남지 않도록 해시하여 사용합니다.
+     */
+    @Bean
+    public KeyResolver userKeyResolver() {
+        return exchange -> {
+            ServerHttpRequest request = exchange.getRequest();
+            long now = System.currentTimeMillis() / 1000;
+            for (Map.Entry<String, List<HttpCookie>> entry : request.getCookies().entrySet()) {
+                if (!entry.getKey().startsWith(AdmissionTicket.COOKIE_PREFIX)) {
+                    continue;
+                }
+                for (HttpCookie cookie : entry.getValue()) {
+                    AdmissionTicket ticket = AdmissionTicket.verify(admissionSecret, cookie.getValue(), now);
+                    if (ticket != null) {
+                        return Mono.just("user:" + ticket.getSubject());
+                    }
+                }
+            }
+
+            String verifiedUser = request.getHeaders().getFirst(IdentityHeaders.USER_ID);
+            if (StringUtils.hasText(verifiedUser)) {
+                return Mono.just("user:" + verifiedUser);
+            }
+            HttpCookie session = request.getCookies().getFirst("JSESSIONID");
+            if (session != null && StringUtils.hasText(session.getValue())) {
+                return Mono.just("session:" + digest(session.getValue()));
+            }
+            return Mono.just("ip:" + clientIp(request, forwardedForHops()));
+        };
+    }
+
+    /**
+     * 게이트웨이 앞단에 신뢰할 수 있는 프록시(L4/L7)가 있을 때만 X-Forwarded-For를 사용합니다.
+     * 그렇지 않으면 클라이언트가 헤더를 조작해 버킷을 우회할 수 있습니다.
+     * 사용할 때도 프록시가 덧붙인 오른쪽 값만 신뢰합니다 (ForwardedFor).
+     *
+     * @param trustedProxyHops 앞단의 신뢰하는 프록시 수 (0이면 연결 주소)
+     */
+    public static String clientIp(ServerHttpRequest request, int trustedProxyHops) {
+        return ForwardedFor.clientIp(request.getHeaders().getFirst("X-Forwarded-For"), remoteAddr(request),
+                trustedProxyHops);
+    }
+
+    private int forwardedForHops() {
+        return trustForwardedFor ? trustedProxyHops : 0;
+    }
+
+    private static String remoteAddr(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : remoteAddress.getHostString();
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ticket.portfolio.gateway.filter;
+
+import com.ticket.portfolio.gateway.config.RateLimitConfig;
+import com.ticket.portfolio.identity.InternalCallHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 백엔드로 전달하는 요청에 사용자 IP 서명 (InternalCallHeaders)
+ * - 외부에서 들어온 같은 이름의 헤더는 항상 제거 (위조 방지)
+ * - 게이트웨이가 판단한 사용자 IP(빈도 제한과 같은 기준)를 x-internal-client-ip로 붙이고 서명
+ * 티켓 서버의 IP 차단은 서명된 값을 사용하므로, 모든 사용자 요청이 게이트웨이 주소 하나로 합산되지 않습니다.
+ * HTTP/gRPC 라우트 모두 적용됩니다. (gRPC 메타데이터 = HTTP/2 헤더)
+ */
+@Component
+public class ClientIpSigningGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final String SERVICE = "gateway";
+
+    private final String identitySecret;
+    private final int forwardedForHops;
+
+    public ClientIpSigningGlobalFilter(@Value("${ticket.identity.secret}") String identitySecret,
+            @Value("${ticket.gateway.trust-forwarded-for:false}") boolean trustForwardedFor,
+            @Value("${ticket.gateway.trusted-proxy-hops:1}") int trustedProxyHops) {
+        this.identitySecret = identitySecret;
+        this.forwardedForHops = trustForwardedFor ? trustedProxyHops : 0;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 20;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String clientIp = RateLimitConfig.clientIp(exchange.getRequest(), forwardedForHops);
+        long now = System.currentTimeMillis() / 1000;
+        ServerWebExchange mutated = exchange.mutate()
+                .request(request -> request.headers(headers -> {
+                    headers.set(InternalCallHeaders.SERVICE.originalName(), SERVICE);
+                    headers.set(InternalCallHeaders.CLIENT_IP.originalName(), clientIp);
+                    headers.set(InternalCallHeaders.TIMESTAMP.originalName(), Long.toString(now));
+                    headers.set(InternalCallHeaders.SIGNATURE.originalName(),
+                            InternalCallHeaders.sign(identitySecret, SERVICE, clientIp, now));
+                }))
+                .build();
+        return chain.filter(mutated);
+    }
+}
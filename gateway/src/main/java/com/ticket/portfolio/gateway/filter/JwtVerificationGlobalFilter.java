@@ -0,0 +1,177 @@
+package com.ticket.portfolio.gateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ticket.portfolio.identity.IdentityHeaders;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엣지 JWT 검증
+ * - 외부에서 들어온 식별 헤더(X-User-Id, X-Roles, ...)는 항상 제거 (위조 방지)
+ * - Bearer 토큰이 있으면 한 번만 검증하고 토큰을 제거한 뒤, 서명된 X-User-Id/X-Roles 헤더를 붙여 전달
+ * - 유효하지 않은 토큰은 백엔드에 도달하기 전에 401
+ * 파서는 기동 시 한 번만 만들고, 검증 결과(불변 record)는 토큰 해시 기준 Caffeine 캐시에 토큰 만료 시각까지 보관합니다.
+ * (Netty 이벤트 루프에서 조회하므로 전역 락이 없는 캐시 사용)
+ * 다른 필터보다 먼저 실행되어 사용자별 빈도 제한(userKeyResolver)이 검증된 X-User-Id를 사용할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class JwtVerificationGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final byte[] INVALID_TOKEN_BODY =
+            "{\"success\":false,\"error\":\"INVALID_TOKEN\",\"message\":\"유효하지 않은 인증 토큰입니다.\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verificationCache;
+    private final String identitySecret;
+    private final Counter cacheHits;
+    private final Counter verified;
+    private final Counter rejected;
+
+    public JwtVerificationGlobalFilter(MeterRegistry meterRegistry,
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.cache-size:10000}") int cacheSize,
+            @Value("${ticket.identity.secret}") String identitySecret) {
+        this.parser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes())).build();
+        this.verificationCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.identitySecret = identitySecret;
+        this.cacheHits = resultCounter(meterRegistry, "cache_hit");
+        this.verified = resultCounter(meterRegistry, "verified");
+        this.rejected = resultCounter(meterRegistry, "rejected");
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String token = StringUtils.hasText(authorization) && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+
+        VerifiedToken identity = null;
+        if (token != null) {
+            identity = verify(token);
+            if (identity == null) {
+                rejected.increment();
+                return unauthorized(exchange.getResponse());
+            }
+        }
+
+        VerifiedToken forwarded = identity;
+        ServerWebExchange mutated = exchange.mutate()
+                .request(request -> request.headers(headers -> {
+                    headers.remove(IdentityHeaders.USER_ID);
+                    headers.remove(IdentityHeaders.ROLES);
+                    headers.remove(IdentityHeaders.TIMESTAMP);
+                    headers.remove(IdentityHeaders.SIGNATURE);
+                    if (forwarded == null) {
+                        return;
+                    }
+                    long now = System.currentTimeMillis() / 1000;
+                    headers.remove(HttpHeaders.AUTHORIZATION);
+                    headers.set(IdentityHeaders.USER_ID, forwarded.userId());
+                    headers.set(IdentityHeaders.ROLES, forwarded.roles());
+                    headers.set(IdentityHeaders.TIMESTAMP, Long.toString(now));
+                    headers.set(IdentityHeaders.SIGNATURE,
+                            IdentityHeaders.sign(identitySecret, forwarded.userId(), forwarded.roles(), now));
+                }))
+                .build();
+        return chain.filter(mutated);
+    }
+
+    /**
+     * @return 유효하지 않은 토큰이면 null
+     */
+    private VerifiedToken verify(String token) {
+        String cacheKey = RequestKeys.sha256(token);
+        VerifiedToken cached = verificationCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Object roles = claims.get("auth");
+            VerifiedToken result = new VerifiedToken(claims.getSubject(), roles != null ? roles.toString() : "",
+                    claims.getExpiration() != null ? claims.getExpiration().getTime() : 0);
+            if (result.userId() == null) {
+                return null;
+            }
+            if (claims.getExpiration() != null) {
+                verificationCache.put(cacheKey, result);
+            }
+            verified.increment();
+            return result;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected JWT at gateway: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Mono<Void> unauthorized(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(INVALID_TOKEN_BODY)));
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ticket.gateway.jwt")
+                .description("게이트웨이 JWT 검증 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record VerifiedToken(String userId, String roles, long expiresAtMillis) {
+    }
+}
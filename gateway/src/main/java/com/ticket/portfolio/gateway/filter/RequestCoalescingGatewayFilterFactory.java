@@ -0,0 +1,206 @@
+package com.ticket.portfolio.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동일 GET 요청 병합 (request coalescing)
+ * 오픈 직후 같은 공연 목록/좌석 배치도 요청이 동시에 몰리면 첫 요청(leader)만 백엔드로 보내고,
+ * 응답이 오기 전까지 들어온 같은 요청(follower)은 그 응답을 복사해 받습니다.
+ * - 키: 라우트 + 경로 + 정렬된 쿼리 (+ auth-scope=true이면 인증 정보의 해시, 사용자별 응답인 경로용)
+ * - follower는 max-wait까지만 기다리고, 넘기거나 leader 응답을 공유할 수 없으면(Set-Cookie, 2xx 외) 직접 백엔드 호출
+ * - 인증이 필요한 경로를 auth-scope 없이 병합하려면 인증/입장 확인 필터가 이 필터보다 먼저 실행되어야 함 (WaitingRoom)
+ * 지표: ticket.gateway.coalesce.requests(role=leader|follower|fallback), ticket.gateway.coalesce.ratio
+ */
+@Component
+public class RequestCoalescingGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter fallbacks;
+
+    public RequestCoalescingGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.leaders = roleCounter(meterRegistry, "leader");
+        this.followers = roleCounter(meterRegistry, "follower");
+        this.fallbacks = roleCounter(meterRegistry, "fallback");
+        // 병합 비율 = 백엔드 호출 없이 응답받은 요청 / 전체 요청
+        meterRegistry.gauge("ticket.gateway.coalesce.ratio", this, factory -> {
+            double total = factory.leaders.count() + factory.followers.count() + factory.fallbacks.count();
+            return total == 0 ? 0 : factory.followers.count() / total;
+        });
+        meterRegistry.gauge("ticket.gateway.coalesce.inflight", inFlight, Map::size);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("maxWait", "authScope");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+                return chain.filter(exchange);
+            }
+
+            String key = coalesceKey(exchange, config.isAuthScope());
+            Flight flight = new Flight();
+            Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                return existing.result()
+                        .timeout(config.getMaxWait(), Mono.empty())
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(shared -> {
+                            if (shared.isEmpty()) {
+                                fallbacks.increment();
+                                return chain.filter(exchange);
+                            }
+                            followers.increment();
+                            return write(exchange.getResponse(), shared.get());
+                        });
+            }
+
+            leaders.increment();
+            ServerWebExchange capturing = exchange.mutate()
+                    .response(new CapturingResponse(exchange.getResponse(), key, flight))
+                    .build();
+            return chain.filter(capturing)
+                    .doFinally(signal -> complete(key, flight, null));
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    /**
+     * leader 요청 종료: 응답을 공유할 수 없으면(null) follower는 각자 백엔드를 호출
+     */
+    private void complete(String key, Flight flight, SharedResponse response) {
+        inFlight.remove(key, flight);
+        if (response != null) {
+            flight.sink().tryEmitValue(response);
+        } else {
+            flight.sink().tryEmitEmpty();
+        }
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        response.getHeaders().putAll(shared.headers());
+        response.getHeaders().setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private static String coalesceKey(ServerWebExchange exchange, boolean authScope) {
+        String key = RequestKeys.routePathAndQuery(exchange);
+        if (!authScope) {
+            return key;
+        }
+        // 사용자별 응답은 인증 정보(Authorization, Cookie)가 같은 요청끼리만 병합
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        return key + "#" + RequestKeys.sha256(
+                headers.getFirst(HttpHeaders.AUTHORIZATION) + "\n" + headers.getFirst(HttpHeaders.COOKIE));
+    }
+
+    private static Counter roleCounter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("ticket.gateway.coalesce.requests")
+                .description("게이트웨이 요청 병합 처리 수")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    /**
+     * leader 응답 본문을 모아 follower에게 넘기고, 자신의 클라이언트에도 그대로 내려보냄
+     */
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final Flight flight;
+
+        CapturingResponse(ServerHttpResponse delegate, String key, Flight flight) {
+            super(delegate);
+            this.key = key;
+            this.flight = flight;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            // 성공 응답만 공유 - leader 개인의 인증 만료(401/302) 등이 같은 키의 다른 사용자에게 전달되지 않도록
+            if (status == null || !status.is2xxSuccessful() || getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                complete(key, flight, null);
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(Flux.from(body)).flatMap(buffer -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                DataBufferUtils.release(buffer);
+
+                HttpHeaders headers = getHeaders();
+                headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                headers.setContentLength(bytes.length);
+                HttpHeaders shared = new HttpHeaders();
+                shared.putAll(headers);
+                shared.remove(HttpHeaders.CONTENT_LENGTH);
+                complete(key, flight, new SharedResponse(status, shared, bytes));
+
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            }).switchIfEmpty(Mono.defer(() -> super.writeWith(Flux.empty())));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(p -> p));
+        }
+    }
+
+    private record Flight(Sinks.One<SharedResponse> sink) {
+
+        Flight() {
+            this(Sinks.one());
+        }
+
+        Mono<SharedResponse> result() {
+            return sink.asMono();
+        }
+    }
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        // follower가 leader 응답을 기다리는 최대 시간 (넘으면 직접 백엔드 호출)
+        private Duration maxWait = Duration.ofSeconds(2);
+        // true이면 Authorization/Cookie가 같은 요청끼리만 병합
+        private boolean authScope = false;
+    }
+}
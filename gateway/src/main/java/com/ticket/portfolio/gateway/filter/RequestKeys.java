@@ -0,0 +1,61 @@
+package com.ticket.portfolio.gateway.filter;
+
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * 응답 캐시/요청 병합 필터가 공유하는 요청 키 생성
+ */
+final class RequestKeys {
+
+    private RequestKeys() {
+    }
+
+    /**
+     * 라우트 + 경로 + 정렬된 쿼리 (파라미터 순서가 달라도 같은 키)
+     */
+    static String routePathAndQuery(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        StringBuilder key = new StringBuilder(route != null ? route.getId() : "")
+                .append(':').append(exchange.getRequest().getPath().value());
+
+        MultiValueMap<String, String> queryParams = exchange.getRequest().getQueryParams();
+        if (!queryParams.isEmpty()) {
+            StringJoiner query = new StringJoiner("&", "?", "");
+            for (Map.Entry<String, List<String>> param : new TreeMap<>(queryParams).entrySet()) {
+                List<String> values = new ArrayList<>(param.getValue());
+                values.sort(null);
+                for (String value : values) {
+                    query.add(param.getKey() + "=" + value);
+                }
+            }
+            key.append(query);
+        }
+        return key.toString();
+    }
+
+    static byte[] sha256(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String sha256(String value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sha256(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
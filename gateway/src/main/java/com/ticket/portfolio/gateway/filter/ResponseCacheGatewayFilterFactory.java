@@ -0,0 +1,220 @@
+package com.ticket.portfolio.gateway.filter;
+
+import com.ticket.portfolio.gateway.filter.ResponseCacheStore.CachedResponse;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 공개 카탈로그(공연 목록, 포스터 이미지) GET 응답 캐시
+ * - 키: 라우트 + 경로 + 정렬된 쿼리 (파라미터 순서가 달라도 같은 항목)
+ * - 본문 SHA-256 기반 강한 ETag, If-None-Match 일치 시 본문 없이 304
+ * - ttl 동안은 백엔드 확인 없이 응답 (X-Cache: HIT)
+ * - ttl이 지난 뒤 stale-while-revalidate 동안은 첫 요청 하나만 백엔드로 보내 갱신하고,
+ *   그 사이 들어온 요청에는 이전 응답을 제공 (X-Cache: STALE)
+ * 200 응답 중 Set-Cookie/Vary가 없고 Cache-Control이 no-store/private가 아닌 응답만 저장합니다.
+ * Range 요청은 캐시를 거치지 않고 백엔드로 보냅니다 (206 부분 응답).
+ * 응답 본문을 가로채야 하므로 NettyWriteResponseFilter보다 먼저 실행됩니다 (캐시 적중 시 이후 필터는 실행되지 않음).
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ResponseCacheStore store;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheStore store) {
+        super(Config.class);
+        this.store = store;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl", "staleWhileRevalidate");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long ttlMs = config.getTtl().toMillis();
+        long staleMs = config.getStaleWhileRevalidate().toMillis();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!HttpMethod.GET.equals(request.getMethod()) || request.getHeaders().containsKey(HttpHeaders.RANGE)) {
+                return chain.filter(exchange);
+            }
+
+            String key = RequestKeys.routePathAndQuery(exchange);
+            CachedResponse cached = store.get(key);
+            boolean revalidating = false;
+            if (cached != null) {
+                long now = System.currentTimeMillis();
+                if (now < cached.freshUntil()) {
+                    return serve(exchange, cached, "HIT");
+                }
+                if (!store.tryStartRevalidation(key)) {
+                    return serve(exchange, cached, "STALE");
+                }
+                revalidating = true;
+            }
+
+            ServerWebExchange caching = exchange.mutate()
+                    .response(new CachingResponse(exchange, key, ttlMs, staleMs))
+                    .build();
+            Mono<Void> result = chain.filter(caching);
+            if (revalidating) {
+                result = result.doFinally(signal -> store.finishRevalidation(key));
+            }
+            return result;
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, CachedResponse cached, String cacheStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.setETag(cached.etag());
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+        headers.set(HttpHeaders.AGE, String.valueOf((System.currentTimeMillis() - cached.storedAt()) / 1000));
+
+        if (etagMatches(exchange.getRequest(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean etagMatches(ServerHttpRequest request, String etag) {
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            // If-None-Match는 약한 비교 (W/ 접두어 무시)
+            String tag = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCacheable(ServerHttpResponse response) {
+        if (!HttpStatus.OK.equals(response.getStatusCode())) {
+            return false;
+        }
+        HttpHeaders headers = response.getHeaders();
+        // 키에 요청 헤더가 들어가지 않으므로 헤더별로 달라지는 응답(Vary)은 저장하지 않음
+        if (headers.containsKey(HttpHeaders.SET_COOKIE) || headers.containsKey(HttpHeaders.VARY)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    private static String strongEtag(byte[] body) {
+        return "\"" + HexFormat.of().formatHex(RequestKeys.sha256(body), 0, 16) + "\"";
+    }
+
+    /**
+     * 백엔드 응답 본문을 모아 캐시에 저장하고 ETag를 붙여 내려보냄
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerHttpRequest request;
+        private final String key;
+        private final long ttlMs;
+        private final long staleMs;
+
+        CachingResponse(ServerWebExchange exchange, String key, long ttlMs, long staleMs) {
+            super(exchange.getResponse());
+            this.request = exchange.getRequest();
+            this.key = key;
+            this.ttlMs = ttlMs;
+            this.staleMs = staleMs;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long maxEntryBytes = store.maxEntryBytes();
+            if (!isCacheable(getDelegate()) || getHeaders().getContentLength() > maxEntryBytes) {
+                return super.writeWith(body);
+            }
+            // 저장 한도까지만 모음: 한도를 넘는 순간 모은 조각과 나머지 본문을 그대로 흘려보냄 (저장하지 않음)
+            // windowUntil은 한도를 넘긴 조각에서 창을 닫으므로, 첫 창이 한도 이내로 닫혔다면 본문이 끝난 것
+            AtomicLong size = new AtomicLong();
+            return Flux.from(body)
+                    .map(DataBuffer.class::cast)
+                    .windowUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxEntryBytes)
+                    .concatMap(Flux::collectList)
+                    .switchOnFirst((first, chunks) -> {
+                        if (first.hasValue() && size.get() <= maxEntryBytes) {
+                            return writeCached(first.get()).flux();
+                        }
+                        return super.writeWith(chunks.flatMapIterable(Function.identity())).flux();
+                    })
+                    .then();
+        }
+
+        private Mono<Void> writeCached(List<DataBuffer> chunks) {
+            DataBuffer joined = bufferFactory().join(chunks);
+            byte[] bytes = new byte[joined.readableByteCount()];
+            joined.read(bytes);
+            DataBufferUtils.release(joined);
+
+            String etag = strongEtag(bytes);
+            HttpHeaders headers = getHeaders();
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            headers.setETag(etag);
+
+            long now = System.currentTimeMillis();
+            HttpHeaders stored = new HttpHeaders();
+            stored.putAll(headers);
+            stored.remove(HttpHeaders.CONTENT_LENGTH);
+            store.put(key, new CachedResponse(stored, bytes, etag, now, now + ttlMs, now + ttlMs + staleMs));
+            headers.set(CACHE_STATUS_HEADER, "MISS");
+
+            if (etagMatches(request, etag)) {
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                return getDelegate().setComplete();
+            }
+            headers.setContentLength(bytes.length);
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(p -> p));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(10);
+        private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+    }
+}
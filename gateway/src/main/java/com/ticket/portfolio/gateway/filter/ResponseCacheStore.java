@@ -0,0 +1,86 @@
+package com.ticket.portfolio.gateway.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게이트웨이 응답 캐시 저장소 (메모리)
+ * - 전체 본문 크기(max-bytes) 기준 LRU: 접근 순서 LinkedHashMap에서 가장 오래 사용하지 않은 항목부터 제거
+ * - max-entry-bytes를 넘는 응답은 저장하지 않음 (CachingResponse도 이 크기를 넘으면 본문을 모으지 않고 그대로 전달)
+ * - 만료(stale)된 항목은 한 요청만 백엔드로 갱신하러 가도록 revalidating 집합으로 표시
+ */
+@Component
+public class ResponseCacheStore {
+
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+    private long totalBytes;
+
+    @Value("${ticket.response-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${ticket.response-cache.max-entry-bytes:5242880}")
+    private long maxEntryBytes;
+
+    public long maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public synchronized CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.staleUntil() <= System.currentTimeMillis()) {
+            // 갱신 허용 시간까지 지난 항목은 버림
+            remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    public synchronized void put(String key, CachedResponse response) {
+        if (response.body().length > maxEntryBytes) {
+            return;
+        }
+        remove(key);
+        entries.put(key, response);
+        totalBytes += response.body().length;
+
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().body().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * @return 이 호출자가 갱신을 맡게 되면 true (이미 다른 요청이 갱신 중이면 false)
+     */
+    public boolean tryStartRevalidation(String key) {
+        return revalidating.add(key);
+    }
+
+    public void finishRevalidation(String key) {
+        revalidating.remove(key);
+    }
+
+    private void remove(String key) {
+        CachedResponse previous = entries.remove(key);
+        if (previous != null) {
+            totalBytes -= previous.body().length;
+        }
+    }
+
+    /**
+     * @param freshUntil 이 시각(ms)까지는 백엔드 확인 없이 응답
+     * @param staleUntil 이 시각(ms)까지는 갱신 중에도 이전 응답을 제공
+     */
+    public record CachedResponse(HttpHeaders headers, byte[] body, String etag, long storedAt,
+                                 long freshUntil, long staleUntil) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.ticket.portfolio.gateway.filter;
+
+import com.ticket.portfolio.admission.AdmissionTicket;
+import com.ticket.portfolio.gateway.grpc.GrpcRoutes;
+import com.ticket.portfolio.loadbalancing.ConcertAffinity;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 대기실(Waiting Room) 필터
+ * 좌석 조회/예약 경로는 대기열을 통과해 입장 쿠키(AdmissionTicket)를 받은 사용자만 백엔드로 전달합니다.
+ * - concertId 쿼리 파라미터(좌석 조회/예약 모두 필수)의 회차 쿠키만 인정, 파라미터가 없으면 미입장으로 처리
+ * - 미입장 요청: 브라우저 페이지 요청은 대기열 화면으로 302, API 요청은 429 + Retry-After
+ * - gRPC 요청: 회차는 concert-option-id, 입장 쿠키 값은 x-admission-ticket 메타데이터에서 읽고,
+ *   미입장이면 트레일러만 있는 응답(grpc-status RESOURCE_EXHAUSTED)으로 거절
+ * 백엔드 부하는 대기열이 입장시킨 인원으로 제한됩니다.
+ */
+@Slf4j
+@Component
+public class WaitingRoomGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<WaitingRoomGatewayFilterFactory.Config> {
+
+    // 대시보드 스크립트가 대기열 모달을 띄우는 응답 형식과 맞춤
+    private static final byte[] NOT_ADMITTED_BODY =
+            "{\"success\":false,\"status\":\"QUEUE\",\"message\":\"대기열 입장이 필요합니다.\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private static final String GRPC_CONTENT_TYPE = "application/grpc";
+    private static final String GRPC_STATUS = "grpc-status";
+    private static final String GRPC_MESSAGE = "grpc-message";
+    private static final int RESOURCE_EXHAUSTED = 8;
+
+    @Value("${ticket.admission.secret}")
+    private String admissionSecret;
+
+    @Value("${ticket.waiting-room.enabled:true}")
+    private boolean enabled;
+
+    public WaitingRoomGatewayFilterFactory() {
+        super(Config.class);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("queueUrl", "retryAfterSeconds");
+    }
+
+    /**
+     * 응답 캐시/요청 병합(NettyWriteResponseFilter 직전)보다 먼저 실행 - 병합된 응답도 입장한 요청에만 전달되도록
+     */
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (!enabled || isAdmitted(exchange.getRequest())) {
+                return chain.filter(exchange);
+            }
+            log.debug("Not admitted: {} {}", exchange.getRequest().getMethod(), exchange.getRequest().getPath());
+            return reject(exchange, config);
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2);
+    }
+
+    private boolean isAdmitted(ServerHttpRequest request) {
+        boolean grpc = GrpcRoutes.isGrpcRequest(request);
+        String concertId = grpc
+                ? request.getHeaders().getFirst(ConcertAffinity.CONCERT_OPTION_ID_KEY.originalName())
+                : request.getQueryParams().getFirst("concertId");
+        if (concertId == null) {
+            return false;
+        }
+        String value = grpc ? request.getHeaders().getFirst(AdmissionTicket.METADATA_KEY) : null;
+        if (value == null) {
+            HttpCookie cookie = request.getCookies().getFirst(AdmissionTicket.COOKIE_PREFIX + concertId);
+            value = cookie != null ? cookie.getValue() : null;
+        }
+        AdmissionTicket ticket = AdmissionTicket.verify(admissionSecret, value, System.currentTimeMillis() / 1000);
+        return ticket != null && concertId.equals(String.valueOf(ticket.getConcertId()));
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+
+        if (GrpcRoutes.isGrpcRequest(request)) {
+            // gRPC 클라이언트는 HTTP 상태 대신 grpc-status를 보므로 200 + 트레일러만 있는 응답으로 거절
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().set(HttpHeaders.CONTENT_TYPE, GRPC_CONTENT_TYPE);
+            response.getHeaders().set(GRPC_STATUS, String.valueOf(RESOURCE_EXHAUSTED));
+            response.getHeaders().set(GRPC_MESSAGE, "admission required");
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(config.getRetryAfterSeconds()));
+            return response.setComplete();
+        }
+
+        if (HttpMethod.GET.equals(request.getMethod()) && acceptsHtml(request)) {
+            UriComponentsBuilder location = UriComponentsBuilder.fromUriString(config.getQueueUrl());
+            String concertId = request.getQueryParams().getFirst("concertId");
+            if (concertId != null) {
+                location.queryParam("concertId", concertId);
+            }
+            response.setStatusCode(HttpStatus.FOUND);
+            response.getHeaders().setLocation(location.build().toUri());
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(config.getRetryAfterSeconds()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(NOT_ADMITTED_BODY)));
+    }
+
+    private static boolean acceptsHtml(ServerHttpRequest request) {
+        return request.getHeaders().getAccept().stream()
+                .anyMatch(mediaType -> mediaType.isCompatibleWith(MediaType.TEXT_HTML) && !mediaType.isWildcardType());
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        // 미입장 브라우저 요청을 보낼 대기열 화면
+        private String queueUrl = "/client/dashboard";
+        private long retryAfterSeconds = 3;
+    }
+}
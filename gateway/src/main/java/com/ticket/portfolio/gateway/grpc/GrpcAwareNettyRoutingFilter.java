@@ -0,0 +1,37 @@
+package com.ticket.portfolio.gateway.grpc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+
+/**
+ * gRPC 라우트만 h2c(prior knowledge) 클라이언트로 전달하는 라우팅 필터
+ * 기본 HttpClient는 평문 백엔드에 HTTP/1.1로 접속하므로 gRPC 서버(HTTP/2 전용)와 통신할 수 없음.
+ * 본문은 변환 없이 스트리밍으로 전달되고, 트레일러(grpc-status)는 기본 GRPCResponseHeadersFilter가 복사합니다.
+ * 기본 NettyRoutingFilter는 비활성화하고(spring.cloud.gateway.global-filter.netty-routing.enabled=false) 이 필터로 대체합니다.
+ */
+public class GrpcAwareNettyRoutingFilter extends NettyRoutingFilter {
+
+    private final HttpClient h2cClient;
+
+    public GrpcAwareNettyRoutingFilter(HttpClient httpClient,
+            ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider, HttpClientProperties properties) {
+        super(httpClient, headersFiltersProvider, properties);
+        this.h2cClient = httpClient.protocol(HttpProtocol.H2C);
+    }
+
+    @Override
+    protected HttpClient getHttpClient(Route route, ServerWebExchange exchange) {
+        if (GrpcRoutes.isGrpcRoute(route)) {
+            return h2cClient;
+        }
+        return super.getHttpClient(route, exchange);
+    }
+}
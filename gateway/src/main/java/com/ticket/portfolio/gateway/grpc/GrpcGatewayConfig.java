@@ -0,0 +1,36 @@
+package com.ticket.portfolio.gateway.grpc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+
+/**
+ * gRPC(h2c) 통과 라우팅
+ * - 게이트웨이 서버는 server.http2.enabled=true로 h2c 요청을 받음
+ * - grpc: true 라우트는 Eureka gRPC.port로 대상 포트를 바꾸고 h2c 클라이언트로 전달
+ * - 라우트는 메서드 단위로 나누어 빈도 제한/노출 범위를 따로 지정 (application.yml)
+ */
+@Configuration
+public class GrpcGatewayConfig {
+
+    @Bean
+    public GrpcAwareNettyRoutingFilter grpcAwareRoutingFilter(HttpClient httpClient,
+            ObjectProvider<List<HttpHeadersFilter>> headersFilters, HttpClientProperties properties) {
+        return new GrpcAwareNettyRoutingFilter(httpClient, headersFilters, properties);
+    }
+
+    @Bean
+    public GrpcInstancePortFilter grpcInstancePortFilter() {
+        return new GrpcInstancePortFilter();
+    }
+
+    @Bean
+    public GrpcMethodTagsProvider grpcMethodTagsProvider() {
+        return new GrpcMethodTagsProvider();
+    }
+}
@@ -0,0 +1,61 @@
+package com.ticket.portfolio.gateway.grpc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * gRPC 라우트의 대상 포트를 Eureka 인스턴스 metadata(gRPC.port)로 교체
+ * lb:// 라우팅은 인스턴스의 HTTP 포트를 고르므로, 로드밸런서가 인스턴스를 선택한 직후 같은 호스트의 gRPC 포트로 바꿉니다.
+ * metadata가 없는 인스턴스는 gRPC를 받을 수 없으므로 503으로 응답 (gRPC 클라이언트에는 UNAVAILABLE)
+ */
+@Slf4j
+public class GrpcInstancePortFilter implements GlobalFilter, Ordered {
+
+    static final String GRPC_PORT_METADATA = "gRPC.port";
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Response<ServiceInstance> selected =
+                exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (!GrpcRoutes.isGrpcRoute(route) || selected == null || !selected.hasServer()) {
+            return chain.filter(exchange);
+        }
+
+        ServiceInstance instance = selected.getServer();
+        String grpcPort = instance.getMetadata().get(GRPC_PORT_METADATA);
+        if (grpcPort == null) {
+            log.warn("Instance {} of {} has no {} metadata", instance.getInstanceId(), instance.getServiceId(),
+                    GRPC_PORT_METADATA);
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return exchange.getResponse().setComplete();
+        }
+
+        URI requestUrl = exchange.getRequiredAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        URI grpcUrl = UriComponentsBuilder.fromUri(requestUrl)
+                .scheme("http")
+                .port(Integer.parseInt(grpcPort))
+                .build(true)
+                .toUri();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR, grpcUrl);
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ticket.portfolio.gateway.grpc;
+
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.tagsprovider.GatewayTagsProvider;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 게이트웨이 요청 지표(spring.cloud.gateway.requests)에 gRPC 메서드 태그 추가
+ * gRPC 요청 경로는 /패키지.서비스/메서드 형식이므로 메서드별 호출 수/지연을 구분할 수 있음 (그 외 요청은 none)
+ * 메서드 이름은 gRPC 라우트(메서드 경로를 나열한 라우트)에 매칭된 요청만 사용하고,
+ * 매칭되지 않은 gRPC 요청은 unknown으로 묶어 임의 경로로 태그 값이 늘어나지 않도록 함
+ */
+public class GrpcMethodTagsProvider implements GatewayTagsProvider {
+
+    @Override
+    public Tags apply(ServerWebExchange exchange) {
+        if (!GrpcRoutes.isGrpcRequest(exchange.getRequest())) {
+            return Tags.of("grpcMethod", "none");
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!GrpcRoutes.isGrpcRoute(route)) {
+            return Tags.of("grpcMethod", "unknown");
+        }
+        return Tags.of("grpcMethod", exchange.getRequest().getPath().value().substring(1));
+    }
+}
@@ -0,0 +1,27 @@
+package com.ticket.portfolio.gateway.grpc;
+
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * gRPC 라우트 판별
+ * 라우트 metadata에 grpc: true가 있으면 h2c(HTTP/2 평문)로 백엔드 gRPC 포트에 그대로 전달합니다.
+ */
+public final class GrpcRoutes {
+
+    static final String GRPC_METADATA = "grpc";
+    static final String GRPC_CONTENT_TYPE = "application/grpc";
+
+    private GrpcRoutes() {
+    }
+
+    static boolean isGrpcRoute(Route route) {
+        return route != null && Boolean.parseBoolean(String.valueOf(route.getMetadata().get(GRPC_METADATA)));
+    }
+
+    public static boolean isGrpcRequest(ServerHttpRequest request) {
+        String contentType = request.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+        return contentType != null && contentType.startsWith(GRPC_CONTENT_TYPE);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ticket.portfolio.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 시나리오 설정 (loadTest 태스크가 시스템 프로퍼티로 전달)
+ *
+ * @param users 동시에 접속하는 가상 사용자 수
+ * @param seats 공연 좌석 수
+ * @param hotSeats 사용자가 고르는 앞쪽 좌석 범위 (작을수록 같은 좌석 경합이 심해짐)
+ * @param queueTimeoutSeconds 대기열에서 입장을 기다리는 최대 시간
+ * @param pollIntervalMs 대기열 재조회 간격
+ * @param embeddedDb MariaDB 대신 H2 사용 여부
+ */
+public record LoadTestConfig(int users, int seats, int hotSeats, int queueTimeoutSeconds, long pollIntervalMs,
+        boolean embeddedDb, Path reportDir) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.users", 1000),
+                Integer.getInteger("loadtest.seats", 200),
+                Integer.getInteger("loadtest.hot-seats", 20),
+                Integer.getInteger("loadtest.queue-timeout-seconds", 60),
+                Long.getLong("loadtest.poll-interval-ms", 500L),
+                Boolean.getBoolean("loadtest.embedded-db"),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest")));
+    }
+}
@@ -0,0 +1,111 @@
+package com.ticket.portfolio.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과 파일 작성
+ * - report.txt: 요약 (단계별 결과, 입장률, RPC별 백분위, 중복 판매 검증)
+ * - {rpc}.hgrm: RPC별 HdrHistogram 분포 (HdrHistogram 플로터로 비교 가능)
+ */
+@Slf4j
+public class LoadTestReport {
+
+    private final LoadTestConfig config;
+    private final String runId;
+    private final long concertOptionId;
+    private final long elapsedNanos;
+    private final ScenarioStats stats;
+    private final RpcLatencyRecorder recorder;
+    private final OversellVerifier.Result verification;
+
+    public LoadTestReport(LoadTestConfig config, String runId, long concertOptionId, long elapsedNanos,
+            ScenarioStats stats, RpcLatencyRecorder recorder, OversellVerifier.Result verification) {
+        this.config = config;
+        this.runId = runId;
+        this.concertOptionId = concertOptionId;
+        this.elapsedNanos = elapsedNanos;
+        this.stats = stats;
+        this.recorder = recorder;
+        this.verification = verification;
+    }
+
+    public void write(Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        Path summary = reportDir.resolve("report.txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(summary), true, StandardCharsets.UTF_8)) {
+            writeSummary(out);
+        }
+        for (Map.Entry<String, Histogram> entry : recorder.getHistograms().entrySet()) {
+            Path file = reportDir.resolve(entry.getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+                // 기록 단위가 마이크로초이므로 1000으로 나누어 ms 단위로 출력
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        log.info("Load test report written to {}", summary.toAbsolutePath());
+    }
+
+    private void writeSummary(PrintStream out) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        long admitted = stats.admitted.sum();
+
+        out.printf("On-sale load test %s (%s)%n", runId, LocalDateTime.now());
+        out.printf("concertOptionId=%d users=%d seats=%d hotSeats=%d queueTimeout=%ds embeddedDb=%s%n",
+                concertOptionId, config.users(), config.seats(), config.hotSeats(), config.queueTimeoutSeconds(),
+                config.embeddedDb());
+        out.printf("elapsed=%.2fs%n%n", elapsedSeconds);
+
+        out.println("[Scenario]");
+        out.printf("admitted          %d (%.1f%% of users, %.1f/s)%n", admitted,
+                100.0 * admitted / Math.max(1, config.users()), admitted / Math.max(0.001, elapsedSeconds));
+        out.printf("queue timed out   %d%n", stats.queueTimedOut.sum());
+        out.printf("bounced to queue  %d%n", stats.bouncedToQueue.sum());
+        out.printf("sold out          %d%n", stats.soldOut.sum());
+        out.printf("reserved          %d%n", stats.reserved.sum());
+        out.printf("reserve rejected  %d%n", stats.reserveRejected.sum());
+        out.printf("completed         %d%n", stats.completed.sum());
+        out.printf("complete failed   %d%n", stats.completeFailed.sum());
+        out.printf("rpc errors        %d%n%n", stats.rpcErrors.sum());
+
+        out.println("[Admissions per second]");
+        stats.getAdmissionsPerSecond().forEach((second, count) -> out.printf("t+%ds %d%n", second, count.sum()));
+        out.println();
+
+        out.println("[Latency ms]");
+        out.printf("%-22s %8s %8s %8s %8s %8s %8s%n", "rpc", "count", "p50", "p90", "p99", "p99.9", "max");
+        recorder.getHistograms().forEach((rpc, histogram) -> out.printf("%-22s %8d %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                rpc, histogram.getTotalCount(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())));
+        out.println();
+
+        out.println("[gRPC errors]");
+        recorder.getErrors().forEach((key, count) -> out.printf("%s %d%n", key, count));
+        out.println();
+
+        out.println("[Oversell check]");
+        out.printf("total seats            %d%n", verification.totalSeats());
+        out.printf("SOLD seats             %d%n", verification.soldSeats());
+        out.printf("SUCCESS reservations   %d%n", verification.successReservations());
+        out.printf("double-booked seats    %d %s%n", verification.duplicatedSeats().size(),
+                verification.duplicatedSeats());
+        out.printf("result                 %s%n", verification.oversold() ? "OVERSOLD" : "OK");
+    }
+
+    private static double millis(long micros) {
+        return micros / (double) TimeUnit.MILLISECONDS.toMicros(1);
+    }
+}
@@ -0,0 +1,261 @@
+package com.ticket.portfolio.loadtest;
+
+import com.server.ServerApplication;
+import com.server.portfolio.security.JwtTokenProvider;
+import com.ticket.portfolio.CompleteReservationRequest;
+import com.ticket.portfolio.CompleteReservationResponse;
+import com.ticket.portfolio.GetUserByEmailRequest;
+import com.ticket.portfolio.RegisterConcertRequest;
+import com.ticket.portfolio.RegisterConcertResponse;
+import com.ticket.portfolio.ReservationRequest;
+import com.ticket.portfolio.ReservationResponse;
+import com.ticket.portfolio.Seat;
+import com.ticket.portfolio.SeatListResponse;
+import com.ticket.portfolio.SeatSearchRequest;
+import com.ticket.portfolio.TicketServiceGrpc;
+import com.ticket.portfolio.TokenRequest;
+import com.ticket.portfolio.TokenResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오픈 시점 부하 재현
+ * - TicketGrpcService를 실제 Spring 컨텍스트로 기동하고 in-process gRPC로 호출
+ * - 가상 사용자: 대기열 토큰 발급 → 좌석 조회 → 좌석 선점 경쟁 → 결제 확정
+ * - 좌석 선점은 서버와 같은 키로 발급한 Access Token을 Authorization 메타데이터로 전송
+ * - RPC별 지연 시간과 입장률을 기록하고, 종료 후 중복 판매 여부를 검증
+ * - 중복 판매가 발견되면 종료 코드 1
+ */
+@Slf4j
+public class OnSaleLoadTest {
+
+    private static final String IN_PROCESS_NAME = "loadtest";
+    private static final Metadata.Key<String> AUTHORIZATION_KEY =
+            Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final LoadTestConfig config;
+    private final TicketServiceGrpc.TicketServiceBlockingStub stub;
+    private final JwtTokenProvider tokenProvider;
+    private final RpcLatencyRecorder recorder = new RpcLatencyRecorder();
+    private final ScenarioStats stats = new ScenarioStats();
+
+    public OnSaleLoadTest(LoadTestConfig config, TicketServiceGrpc.TicketServiceBlockingStub stub,
+            JwtTokenProvider tokenProvider) {
+        this.config = config;
+        this.stub = stub;
+        this.tokenProvider = tokenProvider;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        boolean oversold;
+
+        try (ConfigurableApplicationContext context = startServer(config)) {
+            ManagedChannel channel = InProcessChannelBuilder.forName(IN_PROCESS_NAME).build();
+            try {
+                OnSaleLoadTest test = new OnSaleLoadTest(config, TicketServiceGrpc.newBlockingStub(channel),
+                        context.getBean(JwtTokenProvider.class));
+                oversold = test.run(new OversellVerifier(context.getBean(JdbcTemplate.class)));
+            } finally {
+                channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            }
+        }
+        System.exit(oversold ? 1 : 0);
+    }
+
+    private static ConfigurableApplicationContext startServer(LoadTestConfig config) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("grpc.server.port", "-1");
+        properties.put("grpc.server.in-process-name", IN_PROCESS_NAME);
+        properties.put("server.port", "0");
+        properties.put("eureka.client.enabled", "false");
+        properties.put("spring.cloud.config.enabled", "false");
+        properties.put("spring.cloud.discovery.enabled", "false");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.com.server.portfolio", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        if (config.embeddedDb()) {
+            properties.put("spring.datasource.url",
+                    "jdbc:h2:mem:loadtest;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+        }
+
+        return new SpringApplicationBuilder(ServerApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * @return 중복 판매 발견 여부
+     */
+    public boolean run(OversellVerifier verifier) throws Exception {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        long concertOptionId = registerConcert(runId);
+        List<VirtualUser> users = createUsers(runId);
+        log.info("Load test {}: option={}, users={}, seats={}", runId, concertOptionId, users.size(), config.seats());
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (VirtualUser user : users) {
+                futures.add(executor.submit(() -> runUser(user, concertOptionId, start)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        OversellVerifier.Result verification = verifier.verify(concertOptionId);
+        new LoadTestReport(config, runId, concertOptionId, elapsedNanos, stats, recorder, verification)
+                .write(config.reportDir());
+
+        if (verification.oversold()) {
+            log.error("OVERSOLD detected for option {}: {}", concertOptionId, verification);
+        }
+        return verification.oversold();
+    }
+
+    private void runUser(VirtualUser user, long concertOptionId, long scenarioStart) {
+        String userId = user.userId();
+        try {
+            // 1. 대기열: 입장 가능해질 때까지 폴링
+            long queueStart = System.nanoTime();
+            long deadline = queueStart + TimeUnit.SECONDS.toNanos(config.queueTimeoutSeconds());
+            while (true) {
+                TokenResponse token = recorder.time("issueToken", () -> stub()
+                        .issueToken(TokenRequest.newBuilder().setUserId(userId).setConcertId(concertOptionId).build()));
+                if (token.getCanEnter()) {
+                    break;
+                }
+                if (System.nanoTime() > deadline) {
+                    stats.queueTimedOut.increment();
+                    return;
+                }
+                Thread.sleep(config.pollIntervalMs());
+            }
+            stats.admitted.increment();
+            recorder.record("queueWait", System.nanoTime() - queueStart);
+            stats.recordAdmission(System.nanoTime() - scenarioStart);
+
+            // 2. 좌석 조회
+            SeatListResponse seats = recorder.time("getAvailableSeats", () -> stub()
+                    .getAvailableSeats(SeatSearchRequest.newBuilder().setToken(userId).setConcertId(concertOptionId).build()));
+            if (seats.getQueueActive()) {
+                stats.bouncedToQueue.increment();
+                return;
+            }
+            if (seats.getSeatsCount() == 0) {
+                stats.soldOut.increment();
+                return;
+            }
+
+            // 3. 앞쪽 좌석에 몰리는 경쟁 상황 재현
+            int range = Math.min(config.hotSeats(), seats.getSeatsCount());
+            Seat seat = seats.getSeats(ThreadLocalRandom.current().nextInt(range));
+            ReservationResponse reservation = recorder.time("reserveSeat", () -> stub(user)
+                    .reserveSeat(ReservationRequest.newBuilder()
+                            .setToken(user.accessToken())
+                            .setUserId(userId)
+                            .addSeatIds(seat.getSeatId())
+                            .setConcertOptionId(concertOptionId)
+                            .build()));
+            if (!reservation.getSuccess()) {
+                stats.reserveRejected.increment();
+                return;
+            }
+            stats.reserved.increment();
+
+            // 4. 결제 확정
+            CompleteReservationResponse completed = recorder.time("completeReservation", () -> stub()
+                    .completeReservation(CompleteReservationRequest.newBuilder()
+                            .setUserId(userId)
+                            .addAllReservationIds(reservation.getReservationIdsList())
+                            .setPaymentId("LOADTEST-" + UUID.randomUUID())
+                            .build()));
+            if (completed.getSuccess()) {
+                stats.completed.increment();
+            } else {
+                stats.completeFailed.increment();
+            }
+        } catch (StatusRuntimeException e) {
+            stats.rpcErrors.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long registerConcert(String runId) {
+        RegisterConcertResponse response = stub().registerConcert(RegisterConcertRequest.newBuilder()
+                .setTitle("Load Test " + runId)
+                .setVenue("Load Test Hall")
+                .setConcertDate(LocalDateTime.now().plusDays(30).withNano(0).format(DATE_FORMATTER))
+                .setPrice(10000)
+                .setSeatCount(config.seats())
+                .build());
+        if (!response.getSuccess()) {
+            throw new IllegalStateException("공연 등록 실패: " + response.getMessage());
+        }
+        return response.getConcertId();
+    }
+
+    private List<VirtualUser> createUsers(String runId) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            List<Future<VirtualUser>> futures = new ArrayList<>();
+            for (int i = 0; i < config.users(); i++) {
+                String email = "loadtest-" + runId + "-" + i + "@example.com";
+                futures.add(executor.submit(() -> {
+                    long userId = stub()
+                            .getUserByEmail(GetUserByEmailRequest.newBuilder().setEmail(email).build())
+                            .getUserId();
+                    String accessToken = tokenProvider.createAccessToken(new UsernamePasswordAuthenticationToken(
+                            email, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+                    return new VirtualUser(String.valueOf(userId), accessToken);
+                }));
+            }
+            List<VirtualUser> users = new ArrayList<>(futures.size());
+            for (Future<VirtualUser> future : futures) {
+                users.add(future.get());
+            }
+            return users;
+        }
+    }
+
+    private TicketServiceGrpc.TicketServiceBlockingStub stub() {
+        return stub.withDeadlineAfter(30, TimeUnit.SECONDS);
+    }
+
+    private TicketServiceGrpc.TicketServiceBlockingStub stub(VirtualUser user) {
+        Metadata headers = new Metadata();
+        headers.put(AUTHORIZATION_KEY, "Bearer " + user.accessToken());
+        return stub().withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private record VirtualUser(String userId, String accessToken) {
+    }
+}
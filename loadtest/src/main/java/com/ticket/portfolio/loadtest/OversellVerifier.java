@@ -0,0 +1,52 @@
+package com.ticket.portfolio.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시나리오 종료 후 DB 기준으로 중복 판매 여부 검증
+ * - 같은 좌석에 유효한(PENDING/SUCCESS) 예약이 2건 이상인지
+ * - 결제 완료 예약 수와 SOLD 좌석 수가 일치하는지
+ */
+public class OversellVerifier {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OversellVerifier(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Result verify(long concertOptionId) {
+        List<Map<String, Object>> duplicated = jdbcTemplate.queryForList(
+                "SELECT r.seat_id AS seat_id, COUNT(*) AS cnt FROM reservations r "
+                        + "JOIN seats s ON s.id = r.seat_id "
+                        + "WHERE s.concert_option_id = ? AND r.status IN ('PENDING', 'SUCCESS') "
+                        + "GROUP BY r.seat_id HAVING COUNT(*) > 1",
+                concertOptionId);
+
+        long soldSeats = count("SELECT COUNT(*) FROM seats WHERE concert_option_id = ? AND status = 'SOLD'",
+                concertOptionId);
+        long successReservations = count("SELECT COUNT(*) FROM reservations r JOIN seats s ON s.id = r.seat_id "
+                + "WHERE s.concert_option_id = ? AND r.status = 'SUCCESS'", concertOptionId);
+        long totalSeats = count("SELECT COUNT(*) FROM seats WHERE concert_option_id = ?", concertOptionId);
+
+        return new Result(duplicated, soldSeats, successReservations, totalSeats);
+    }
+
+    private long count(String sql, long concertOptionId) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class, concertOptionId);
+        return value != null ? value : 0;
+    }
+
+    public record Result(List<Map<String, Object>> duplicatedSeats, long soldSeats, long successReservations,
+            long totalSeats) {
+
+        public boolean oversold() {
+            return !duplicatedSeats.isEmpty()
+                    || successReservations != soldSeats
+                    || successReservations > totalSeats;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ticket.portfolio.loadtest;
+
+import io.grpc.StatusRuntimeException;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * RPC별 응답 시간(HdrHistogram, 마이크로초)과 gRPC 오류 코드별 횟수 기록
+ */
+public class RpcLatencyRecorder {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public <T> T time(String rpc, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } catch (StatusRuntimeException e) {
+            errors.computeIfAbsent(rpc + " " + e.getStatus().getCode(), key -> new LongAdder()).increment();
+            throw e;
+        } finally {
+            record(rpc, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String name, long nanos) {
+        long micros = Math.min(MAX_TRACKABLE_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        histograms.computeIfAbsent(name, key -> new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3))
+                .recordValue(micros);
+    }
+
+    public Map<String, Histogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    public Map<String, Long> getErrors() {
+        Map<String, Long> result = new TreeMap<>();
+        errors.forEach((key, value) -> result.put(key, value.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ticket.portfolio.loadtest;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 사용자 단계별 결과 집계
+ */
+public class ScenarioStats {
+
+    final LongAdder admitted = new LongAdder();
+    final LongAdder queueTimedOut = new LongAdder();
+    final LongAdder bouncedToQueue = new LongAdder();
+    final LongAdder soldOut = new LongAdder();
+    final LongAdder reserved = new LongAdder();
+    final LongAdder reserveRejected = new LongAdder();
+    final LongAdder completed = new LongAdder();
+    final LongAdder completeFailed = new LongAdder();
+    final LongAdder rpcErrors = new LongAdder();
+
+    // 시나리오 시작 후 경과 초 → 해당 초에 입장한 사용자 수
+    private final ConcurrentSkipListMap<Long, LongAdder> admissionsPerSecond = new ConcurrentSkipListMap<>();
+
+    void recordAdmission(long nanosSinceStart) {
+        admissionsPerSecond.computeIfAbsent(TimeUnit.NANOSECONDS.toSeconds(nanosSinceStart), key -> new LongAdder())
+                .increment();
+    }
+
+    ConcurrentSkipListMap<Long, LongAdder> getAdmissionsPerSecond() {
+        return admissionsPerSecond;
+    }
+}
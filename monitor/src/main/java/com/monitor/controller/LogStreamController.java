@@ -46,8 +46,10 @@ public class LogStreamController {
         }
     }
 
-    private String formatLog(LogMessage log) {
-        return String.format("{\"timestamp\": \"%s\", \"level\": \"%s\", \"service\": \"%s\", \"message\": \"%s\"}",
-                log.getTimestamp(), log.getLevel(), log.getServiceName(), log.getMessage().replace("\"", "\\\""));
+    String formatLog(LogMessage log) {
+        return String.format(
+                "{\"timestamp\": \"%s\", \"level\": \"%s\", \"service\": \"%s\", \"traceId\": \"%s\", \"message\": \"%s\"}",
+                log.getTimestamp(), log.getLevel(), log.getServiceName(), log.getTraceId(),
+                log.getMessage().replace("\"", "\\\""));
     }
 }
@@ -0,0 +1,23 @@
+package com.payment.config;
+
+import com.ticket.portfolio.identity.InternalCallHeaders;
+import io.grpc.ClientInterceptor;
+import net.devh.boot.grpc.client.interceptor.GrpcGlobalClientInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 티켓 서버 호출 설정
+ * 결제 확정/취소는 사용자 IP 없이 보내는 서비스 간 호출이므로, 서버의 IP 빈도 제한에서 제외되도록 내부 호출 서명을 붙임
+ */
+@Configuration
+public class GrpcClientConfig {
+
+    @Bean
+    @GrpcGlobalClientInterceptor
+    public ClientInterceptor internalCallClientInterceptor(@Value("${spring.application.name}") String applicationName,
+            @Value("${ticket.identity.secret}") String identitySecret) {
+        return InternalCallHeaders.clientInterceptor(identitySecret, applicationName, () -> null);
+    }
+}
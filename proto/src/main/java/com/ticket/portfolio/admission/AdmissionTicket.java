@@ -0,0 +1,102 @@
+package com.ticket.portfolio.admission;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 대기열 입장 허가 쿠키
+ * 대기열을 통과한 사용자에게 웹 서버(client)가 발급하고, 게이트웨이가 좌석/예약 경로에서 검증합니다.
+ * 값 형식: base64url(concertId:subject:expiresAt) + "." + base64url(HMAC-SHA256)
+ * 두 서비스가 같은 비밀 키(ticket.admission.secret)를 공유해야 합니다.
+ */
+public final class AdmissionTicket {
+
+    public static final String COOKIE_PREFIX = "ticket_admission_";
+    // gRPC 호출은 쿠키 대신 이 메타데이터에 쿠키 값을 담음 (회차는 concert-option-id 메타데이터)
+    public static final String METADATA_KEY = "x-admission-ticket";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final long concertId;
+    private final String subject;
+    private final long expiresAtEpochSecond;
+
+    private AdmissionTicket(long concertId, String subject, long expiresAtEpochSecond) {
+        this.concertId = concertId;
+        this.subject = subject;
+        this.expiresAtEpochSecond = expiresAtEpochSecond;
+    }
+
+    public static String cookieName(long concertId) {
+        return COOKIE_PREFIX + concertId;
+    }
+
+    public static String issue(String secret, long concertId, String subject, long expiresAtEpochSecond) {
+        String payload = ENCODER.encodeToString(
+                (concertId + ":" + subject + ":" + expiresAtEpochSecond).getBytes(StandardCharsets.UTF_8));
+        return payload + "." + ENCODER.encodeToString(sign(secret, payload));
+    }
+
+    /**
+     * @return 서명이 올바르고 만료되지 않았으면 입장 정보, 아니면 null
+     */
+    public static AdmissionTicket verify(String secret, String value, long nowEpochSecond) {
+        if (value == null) {
+            return null;
+        }
+        int dot = value.indexOf('.');
+        if (dot <= 0 || dot == value.length() - 1) {
+            return null;
+        }
+        String payload = value.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(value.substring(dot + 1));
+            // 타이밍 공격 방지를 위해 상수 시간 비교
+            if (!MessageDigest.isEqual(sign(secret, payload), signature)) {
+                return null;
+            }
+            String claims = new String(DECODER.decode(payload), StandardCharsets.UTF_8);
+            int first = claims.indexOf(':');
+            int last = claims.lastIndexOf(':');
+            if (first <= 0 || last == first) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(claims.substring(last + 1));
+            if (expiresAt <= nowEpochSecond) {
+                return null;
+            }
+            return new AdmissionTicket(Long.parseLong(claims.substring(0, first)),
+                    claims.substring(first + 1, last), expiresAt);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] sign(String secret, String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 서명 실패", e);
+        }
+    }
+
+    public long getConcertId() {
+        return concertId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public long getExpiresAtEpochSecond() {
+        return expiresAtEpochSecond;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ticket.portfolio.identity;
+
+/**
+ * X-Forwarded-For에서 클라이언트 IP 결정
+ * 각 프록시는 자신이 본 연결 주소를 오른쪽에 덧붙이므로, 왼쪽 값은 클라이언트가 마음대로 넣을 수 있습니다.
+ * → 신뢰하는 프록시 수(trustedHops)만큼 오른쪽에서 센 값을 사용
+ *   (예: 게이트웨이 하나 뒤의 서비스는 trustedHops=1 → 게이트웨이가 덧붙인 맨 오른쪽 값)
+ */
+public final class ForwardedFor {
+
+    private ForwardedFor() {
+    }
+
+    /**
+     * @param forwardedFor X-Forwarded-For 값 (없으면 null)
+     * @param remoteAddr   직접 연결한 상대 주소
+     * @param trustedHops  앞단의 신뢰하는 프록시 수 (0 이하이면 헤더를 무시하고 remoteAddr 사용)
+     */
+    public static String clientIp(String forwardedFor, String remoteAddr, int trustedHops) {
+        if (trustedHops <= 0 || forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        // 값이 신뢰하는 프록시 수보다 적으면 맨 왼쪽 값도 신뢰하는 프록시가 넣은 것
+        String hop = hops[Math.max(0, hops.length - trustedHops)].trim();
+        return hop.isEmpty() ? remoteAddr : hop;
+    }
+}
@@ -0,0 +1,63 @@
+package com.ticket.portfolio.identity;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 게이트웨이가 JWT 검증 후 백엔드로 전달하는 사용자 식별 헤더
+ * 게이트웨이는 외부에서 들어온 같은 이름의 헤더를 항상 제거하고, 검증된 값에만 서명을 붙입니다.
+ * 서명: HMAC-SHA256(userId \n roles \n timestamp), 백엔드는 max-skew 이내의 서명만 신뢰합니다.
+ * 게이트웨이와 백엔드는 같은 비밀 키(ticket.identity.secret)를 공유해야 합니다.
+ */
+public final class IdentityHeaders {
+
+    public static final String USER_ID = "X-User-Id";
+    public static final String ROLES = "X-Roles";
+    public static final String TIMESTAMP = "X-Identity-Timestamp";
+    public static final String SIGNATURE = "X-Identity-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private IdentityHeaders() {
+    }
+
+    public static String sign(String secret, String userId, String roles, long timestampEpochSecond) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(hmac(secret, userId + "\n" + roles + "\n" + timestampEpochSecond));
+    }
+
+    /**
+     * @return 서명이 일치하고 timestamp가 now 기준 maxSkewSeconds 이내이면 true
+     */
+    public static boolean verify(String secret, String userId, String roles, String timestamp, String signature,
+                                 long nowEpochSecond, long maxSkewSeconds) {
+        if (userId == null || roles == null || timestamp == null || signature == null) {
+            return false;
+        }
+        try {
+            long issuedAt = Long.parseLong(timestamp);
+            if (Math.abs(nowEpochSecond - issuedAt) > maxSkewSeconds) {
+                return false;
+            }
+            byte[] expected = hmac(secret, userId + "\n" + roles + "\n" + issuedAt);
+            // 타이밍 공격 방지를 위해 상수 시간 비교
+            return MessageDigest.isEqual(expected, Base64.getUrlDecoder().decode(signature));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    static byte[] hmac(String secret, String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 서명 실패", e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ticket.portfolio.identity;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * 내부 서비스 간 호출 식별 헤더 (gRPC 메타데이터, HTTP 헤더 공통)
+ * - 호출하는 쪽(client, payment의 gRPC 호출, 게이트웨이의 모든 전달 요청)은 서비스 이름과
+ *   (사용자 요청 처리 중이면) 사용자 IP에 서명을 붙임
+ * - 티켓 서버는 서명이 맞는 호출만 내부 호출로 보고, 그 호출의 x-internal-client-ip(사용자 IP 하나)를 그대로 신뢰
+ *   (프록시가 덧붙이는 X-Forwarded-For와 섞이지 않도록 별도 헤더 사용)
+ * 서명: HMAC-SHA256("internal" \n service \n clientIp \n timestamp), 키는 ticket.identity.secret
+ */
+public final class InternalCallHeaders {
+
+    public static final Metadata.Key<String> SERVICE =
+            Metadata.Key.of("x-internal-service", Metadata.ASCII_STRING_MARSHALLER);
+    public static final Metadata.Key<String> CLIENT_IP =
+            Metadata.Key.of("x-internal-client-ip", Metadata.ASCII_STRING_MARSHALLER);
+    public static final Metadata.Key<String> TIMESTAMP =
+            Metadata.Key.of("x-internal-timestamp", Metadata.ASCII_STRING_MARSHALLER);
+    public static final Metadata.Key<String> SIGNATURE =
+            Metadata.Key.of("x-internal-signature", Metadata.ASCII_STRING_MARSHALLER);
+
+    private InternalCallHeaders() {
+    }
+
+    /**
+     * @param clientIp 원래 사용자 IP (사용자 요청과 무관한 호출이면 null)
+     */
+    public static void attach(Metadata headers, String secret, String service, String clientIp,
+                              long nowEpochSecond) {
+        headers.put(SERVICE, service);
+        if (clientIp != null) {
+            headers.put(CLIENT_IP, clientIp);
+        }
+        headers.put(TIMESTAMP, Long.toString(nowEpochSecond));
+        headers.put(SIGNATURE, sign(secret, service, clientIp, nowEpochSecond));
+    }
+
+    /**
+     * HTTP 헤더로 보낼 때 사용하는 서명 값 (헤더 이름은 각 Key의 originalName())
+     */
+    public static String sign(String secret, String service, String clientIp, long timestampEpochSecond) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(IdentityHeaders.hmac(secret, payload(service, clientIp, timestampEpochSecond)));
+    }
+
+    /**
+     * @return 서명이 일치하고 timestamp가 now 기준 maxSkewSeconds 이내이면 true
+     */
+    public static boolean verify(Metadata headers, String secret, long nowEpochSecond, long maxSkewSeconds) {
+        return verify(secret, headers.get(SERVICE), headers.get(CLIENT_IP), headers.get(TIMESTAMP),
+                headers.get(SIGNATURE), nowEpochSecond, maxSkewSeconds);
+    }
+
+    /**
+     * HTTP 헤더 값으로 검증
+     * @return 서명이 일치하고 timestamp가 now 기준 maxSkewSeconds 이내이면 true
+     */
+    public static boolean verify(String secret, String service, String clientIp, String timestamp,
+                                 String signature, long nowEpochSecond, long maxSkewSeconds) {
+        if (service == null || timestamp == null || signature == null) {
+            return false;
+        }
+        try {
+            long issuedAt = Long.parseLong(timestamp);
+            if (Math.abs(nowEpochSecond - issuedAt) > maxSkewSeconds) {
+                return false;
+            }
+            byte[] expected = IdentityHeaders.hmac(secret, payload(service, clientIp, issuedAt));
+            return MessageDigest.isEqual(expected, Base64.getUrlDecoder().decode(signature));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 모든 호출에 내부 호출 서명을 붙이는 클라이언트 인터셉터
+     *
+     * @param clientIp 호출 시점의 사용자 IP (없으면 null 반환)
+     */
+    public static ClientInterceptor clientInterceptor(String secret, String service, Supplier<String> clientIp) {
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                    CallOptions callOptions, Channel next) {
+                // 요청 스레드에서 값을 읽어둠 (start는 다른 스레드에서 호출될 수 있음)
+                String ip = clientIp.get();
+                return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+                    @Override
+                    public void start(Listener<RespT> responseListener, Metadata headers) {
+                        attach(headers, secret, service, ip, System.currentTimeMillis() / 1000);
+                        super.start(responseListener, headers);
+                    }
+                };
+            }
+        };
+    }
+
+    private static String payload(String service, String clientIp, long timestamp) {
+        return "internal\n" + service + "\n" + (clientIp != null ? clientIp : "") + "\n" + timestamp;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ticket.portfolio.loadbalancing;
+
+import io.grpc.ClientInterceptor;
+import io.grpc.Metadata;
+import io.grpc.stub.AbstractStub;
+import io.grpc.stub.MetadataUtils;
+
+/**
+ * 회차(concert option) 기준 라우팅 키
+ * 호출 메타데이터에 concert-option-id를 실으면 concert_affinity 로드밸런서가 같은 회차 요청을 같은 서버로 보냅니다.
+ */
+public final class ConcertAffinity {
+
+    public static final Metadata.Key<String> CONCERT_OPTION_ID_KEY =
+            Metadata.Key.of("concert-option-id", Metadata.ASCII_STRING_MARSHALLER);
+
+    private ConcertAffinity() {
+    }
+
+    public static ClientInterceptor interceptor(long concertOptionId) {
+        Metadata headers = new Metadata();
+        headers.put(CONCERT_OPTION_ID_KEY, Long.toString(concertOptionId));
+        return MetadataUtils.newAttachHeadersInterceptor(headers);
+    }
+
+    /**
+     * @param concertOptionId 0 이하이면 키 없이 원래 stub 반환 (최소 부하 분산)
+     */
+    public static <S extends AbstractStub<S>> S withConcertOption(S stub, long concertOptionId) {
+        return concertOptionId > 0 ? stub.withInterceptors(interceptor(concertOptionId)) : stub;
+    }
+}
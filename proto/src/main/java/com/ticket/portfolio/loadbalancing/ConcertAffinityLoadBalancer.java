@@ -0,0 +1,297 @@
+package com.ticket.portfolio.loadbalancing;
+
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.Metadata;
+import io.grpc.Status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회차 친화(consistent hash) gRPC 로드밸런서
+ * - concert-option-id 메타데이터가 있으면 해시 링(서버당 ringReplicas개 가상 노드)에서 담당 서버를 고름
+ *   담당 서버의 진행 중 요청 수가 평균 x loadFactor를 넘으면 링의 다음 서버로 넘김 (bounded-load)
+ * - 키가 없으면 임의의 두 서버 중 진행 중 요청이 적은 쪽 선택 (power of two choices)
+ * 같은 회차 요청이 같은 서버로 모이므로 서버별 로컬 캐시(좌석/회차 정보)의 적중률이 높아집니다.
+ * 모든 메서드는 채널의 synchronization context에서 호출되며, 피커만 여러 스레드에서 동시에 사용됩니다.
+ */
+final class ConcertAffinityLoadBalancer extends LoadBalancer {
+
+    static final double DEFAULT_LOAD_FACTOR = 1.25;
+    static final int DEFAULT_RING_REPLICAS = 100;
+
+    private final Helper helper;
+    private final Map<EquivalentAddressGroup, Subchannel> subchannels = new HashMap<>();
+    private final Map<Subchannel, ConnectivityStateInfo> states = new HashMap<>();
+    private final Map<Subchannel, AtomicInteger> outstanding = new HashMap<>();
+
+    private Config config = new Config(DEFAULT_LOAD_FACTOR, DEFAULT_RING_REPLICAS);
+    private ConnectivityState currentState;
+
+    ConcertAffinityLoadBalancer(Helper helper) {
+        this.helper = helper;
+    }
+
+    @Override
+    public Status acceptResolvedAddresses(ResolvedAddresses resolvedAddresses) {
+        List<EquivalentAddressGroup> servers = resolvedAddresses.getAddresses();
+        if (servers.isEmpty()) {
+            Status unavailable = Status.UNAVAILABLE.withDescription(
+                    "No servers resolved, attributes=" + resolvedAddresses.getAttributes());
+            handleNameResolutionError(unavailable);
+            return unavailable;
+        }
+        if (resolvedAddresses.getLoadBalancingPolicyConfig() instanceof Config parsed) {
+            config = parsed;
+        }
+
+        Set<EquivalentAddressGroup> latest = new HashSet<>();
+        for (EquivalentAddressGroup server : servers) {
+            // 속성(Eureka metadata 등)이 바뀌어도 같은 주소면 같은 서브채널 유지
+            EquivalentAddressGroup key = new EquivalentAddressGroup(server.getAddresses());
+            latest.add(key);
+            Subchannel existing = subchannels.get(key);
+            if (existing != null) {
+                existing.updateAddresses(List.of(server));
+                continue;
+            }
+            Subchannel subchannel = helper.createSubchannel(CreateSubchannelArgs.newBuilder()
+                    .setAddresses(server)
+                    .build());
+            subchannels.put(key, subchannel);
+            states.put(subchannel, ConnectivityStateInfo.forNonError(ConnectivityState.IDLE));
+            outstanding.put(subchannel, new AtomicInteger());
+            subchannel.start(stateInfo -> processStateChange(subchannel, stateInfo));
+            subchannel.requestConnection();
+        }
+
+        Iterator<Map.Entry<EquivalentAddressGroup, Subchannel>> it = subchannels.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<EquivalentAddressGroup, Subchannel> entry = it.next();
+            if (!latest.contains(entry.getKey())) {
+                Subchannel removed = entry.getValue();
+                it.remove();
+                states.remove(removed);
+                outstanding.remove(removed);
+                removed.shutdown();
+            }
+        }
+
+        updateBalancingState();
+        return Status.OK;
+    }
+
+    @Override
+    public void handleNameResolutionError(Status error) {
+        if (currentState != ConnectivityState.READY) {
+            updateState(ConnectivityState.TRANSIENT_FAILURE, new FixedPicker(PickResult.withError(error)));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        for (Subchannel subchannel : subchannels.values()) {
+            subchannel.shutdown();
+        }
+        subchannels.clear();
+        states.clear();
+        outstanding.clear();
+    }
+
+    private void processStateChange(Subchannel subchannel, ConnectivityStateInfo stateInfo) {
+        if (!states.containsKey(subchannel) || stateInfo.getState() == ConnectivityState.SHUTDOWN) {
+            return;
+        }
+        if (stateInfo.getState() == ConnectivityState.IDLE) {
+            subchannel.requestConnection();
+        }
+        states.put(subchannel, stateInfo);
+        updateBalancingState();
+    }
+
+    private void updateBalancingState() {
+        List<Subchannel> ready = new ArrayList<>();
+        boolean connecting = false;
+        Status lastError = Status.UNAVAILABLE.withDescription("No ready servers");
+        for (Map.Entry<Subchannel, ConnectivityStateInfo> entry : states.entrySet()) {
+            ConnectivityState state = entry.getValue().getState();
+            if (state == ConnectivityState.READY) {
+                ready.add(entry.getKey());
+            } else if (state == ConnectivityState.CONNECTING || state == ConnectivityState.IDLE) {
+                connecting = true;
+            } else if (state == ConnectivityState.TRANSIENT_FAILURE) {
+                lastError = entry.getValue().getStatus();
+            }
+        }
+
+        if (!ready.isEmpty()) {
+            updateState(ConnectivityState.READY, new AffinityPicker(ready, outstanding, config));
+        } else if (connecting) {
+            updateState(ConnectivityState.CONNECTING, new FixedPicker(PickResult.withNoResult()));
+        } else {
+            updateState(ConnectivityState.TRANSIENT_FAILURE, new FixedPicker(PickResult.withError(lastError)));
+        }
+    }
+
+    private void updateState(ConnectivityState state, SubchannelPicker picker) {
+        currentState = state;
+        helper.updateBalancingState(state, picker);
+    }
+
+    // FNV-1a + 최종 혼합 (IpBloomFilter와 같은 방식)
+    static long hash64(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    record Config(double loadFactor, int ringReplicas) {
+    }
+
+    private static final class FixedPicker extends SubchannelPicker {
+
+        private final PickResult result;
+
+        FixedPicker(PickResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            return result;
+        }
+    }
+
+    private static final class AffinityPicker extends SubchannelPicker {
+
+        private final Subchannel[] servers;
+        private final AtomicInteger[] loads;
+        private final ClientStreamTracer.Factory[] tracers;
+        private final long[] ringHashes;
+        private final int[] ringOwners;
+        private final double loadFactor;
+
+        AffinityPicker(List<Subchannel> ready, Map<Subchannel, AtomicInteger> outstanding, Config config) {
+            // 주소 순으로 정렬해 상태 변경 순서와 무관하게 같은 링을 만듦
+            ready.sort((a, b) -> a.getAddresses().toString().compareTo(b.getAddresses().toString()));
+            int n = ready.size();
+            this.servers = ready.toArray(new Subchannel[0]);
+            this.loads = new AtomicInteger[n];
+            this.tracers = new ClientStreamTracer.Factory[n];
+            for (int i = 0; i < n; i++) {
+                loads[i] = outstanding.get(servers[i]);
+                tracers[i] = new OutstandingTracerFactory(loads[i]);
+            }
+            this.loadFactor = config.loadFactor();
+
+            int replicas = config.ringReplicas();
+            long[][] points = new long[n * replicas][];
+            for (int i = 0; i < n; i++) {
+                String address = servers[i].getAddresses().getAddresses().toString();
+                for (int r = 0; r < replicas; r++) {
+                    points[i * replicas + r] = new long[]{hash64(address + "#" + r), i};
+                }
+            }
+            Arrays.sort(points, (a, b) -> Long.compare(a[0], b[0]));
+            this.ringHashes = new long[points.length];
+            this.ringOwners = new int[points.length];
+            for (int i = 0; i < points.length; i++) {
+                ringHashes[i] = points[i][0];
+                ringOwners[i] = (int) points[i][1];
+            }
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            String key = args.getHeaders().get(ConcertAffinity.CONCERT_OPTION_ID_KEY);
+            int index = key != null ? pickByHash(key) : pickLeastOutstanding();
+            return PickResult.withSubchannel(servers[index], tracers[index]);
+        }
+
+        private int pickByHash(String key) {
+            int position = Arrays.binarySearch(ringHashes, hash64(key));
+            if (position < 0) {
+                position = -position - 1;
+            }
+            if (position == ringHashes.length) {
+                position = 0;
+            }
+
+            long total = 0;
+            for (AtomicInteger load : loads) {
+                total += load.get();
+            }
+            // 이번 요청을 포함한 평균 부하 x loadFactor
+            long capacity = (long) Math.ceil((total + 1) * loadFactor / servers.length);
+
+            boolean[] visited = new boolean[servers.length];
+            int remaining = servers.length;
+            for (int i = 0; i < ringHashes.length && remaining > 0; i++) {
+                int owner = ringOwners[(position + i) % ringHashes.length];
+                if (visited[owner]) {
+                    continue;
+                }
+                if (loads[owner].get() < capacity) {
+                    return owner;
+                }
+                visited[owner] = true;
+                remaining--;
+            }
+            return ringOwners[position];
+        }
+
+        private int pickLeastOutstanding() {
+            if (servers.length == 1) {
+                return 0;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(servers.length);
+            int second = random.nextInt(servers.length - 1);
+            if (second >= first) {
+                second++;
+            }
+            return loads[first].get() <= loads[second].get() ? first : second;
+        }
+    }
+
+    /**
+     * 서버별 진행 중 요청 수 (스트림 생성 시 증가, 종료 시 감소)
+     */
+    private static final class OutstandingTracerFactory extends ClientStreamTracer.Factory {
+
+        private final AtomicInteger load;
+
+        OutstandingTracerFactory(AtomicInteger load) {
+            this.load = load;
+        }
+
+        @Override
+        public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+            load.incrementAndGet();
+            return new ClientStreamTracer() {
+                @Override
+                public void streamClosed(Status status) {
+                    load.decrementAndGet();
+                }
+            };
+        }
+    }
+}
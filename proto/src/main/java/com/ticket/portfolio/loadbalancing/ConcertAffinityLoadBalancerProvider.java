@@ -0,0 +1,54 @@
+package com.ticket.portfolio.loadbalancing;
+
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancerProvider;
+import io.grpc.NameResolver.ConfigOrError;
+
+import java.util.Map;
+
+/**
+ * concert_affinity 정책 등록 (META-INF/services/io.grpc.LoadBalancerProvider)
+ * 사용: grpc.client.&lt;name&gt;.default-load-balancing-policy: concert_affinity
+ * 서비스 설정(loadBalancingConfig)으로 loadFactor(기본 1.25), ringReplicas(기본 100)를 바꿀 수 있습니다.
+ */
+public class ConcertAffinityLoadBalancerProvider extends LoadBalancerProvider {
+
+    public static final String POLICY_NAME = "concert_affinity";
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public int getPriority() {
+        return 5;
+    }
+
+    @Override
+    public String getPolicyName() {
+        return POLICY_NAME;
+    }
+
+    @Override
+    public LoadBalancer newLoadBalancer(LoadBalancer.Helper helper) {
+        return new ConcertAffinityLoadBalancer(helper);
+    }
+
+    @Override
+    public ConfigOrError parseLoadBalancingPolicyConfig(Map<String, ?> rawConfig) {
+        double loadFactor = ConcertAffinityLoadBalancer.DEFAULT_LOAD_FACTOR;
+        int ringReplicas = ConcertAffinityLoadBalancer.DEFAULT_RING_REPLICAS;
+        if (rawConfig.get("loadFactor") instanceof Number value) {
+            loadFactor = value.doubleValue();
+        }
+        if (rawConfig.get("ringReplicas") instanceof Number value) {
+            ringReplicas = value.intValue();
+        }
+        if (loadFactor <= 1 || ringReplicas <= 0) {
+            return ConfigOrError.fromError(io.grpc.Status.INVALID_ARGUMENT.withDescription(
+                    "concert_affinity requires loadFactor > 1 and ringReplicas > 0"));
+        }
+        return ConfigOrError.fromConfig(new ConcertAffinityLoadBalancer.Config(loadFactor, ringReplicas));
+    }
+}
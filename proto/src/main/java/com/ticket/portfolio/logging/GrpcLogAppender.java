@@ -12,6 +12,7 @@ import io.grpc.stub.StreamObserver;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 public class GrpcLogAppender extends AppenderBase<ILoggingEvent> {
@@ -94,15 +95,25 @@ public class GrpcLogAppender extends AppenderBase<ILoggingEvent> {
                     .withZone(ZoneId.systemDefault())
                     .format(Instant.ofEpochMilli(eventObject.getTimeStamp()));
 
-            LogMessage message = LogMessage.newBuilder()
+            LogMessage.Builder message = LogMessage.newBuilder()
                     .setTimestamp(timestamp)
                     .setLevel(eventObject.getLevel().toString())
                     .setLoggerName(eventObject.getLoggerName())
                     .setMessage(eventObject.getFormattedMessage())
-                    .setServiceName(serviceName)
-                    .build();
+                    .setServiceName(serviceName);
+
+            // Micrometer Tracing이 MDC에 넣어 둔 추적 ID
+            Map<String, String> mdc = eventObject.getMDCPropertyMap();
+            String traceId = mdc.get("traceId");
+            if (traceId != null) {
+                message.setTraceId(traceId);
+                String spanId = mdc.get("spanId");
+                if (spanId != null) {
+                    message.setSpanId(spanId);
+                }
+            }
 
-            requestObserver.onNext(message);
+            requestObserver.onNext(message.build());
         } catch (Exception e) {
             // Failsafe
             System.err.println("Failed to send log via gRPC: " + e.getMessage());
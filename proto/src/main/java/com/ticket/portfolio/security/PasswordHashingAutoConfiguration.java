@@ -0,0 +1,38 @@
+package com.ticket.portfolio.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해싱 공통 설정 (로그인을 처리하는 서비스: server, auth)
+ * - ticket.password-hashing.enabled=true인 서비스에만 적용 (client 등 해싱이 필요 없는 서비스는 실행기를 만들지 않음)
+ * - 기본값은 여기에서만 관리: bcrypt-strength 10, threads 0(코어의 절반), queue-capacity 256, max-queue-ms 2000
+ * bcrypt-strength를 올리면 기존 해시는 다음 로그인 시 재해싱됩니다 (PasswordHashingService).
+ */
+@AutoConfiguration
+@ConditionalOnClass({PasswordEncoder.class, MeterRegistry.class})
+@ConditionalOnProperty(name = "ticket.password-hashing.enabled", havingValue = "true")
+public class PasswordHashingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PasswordEncoder passwordEncoder(@Value("${ticket.password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    public PasswordHashingService passwordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+            @Value("${ticket.password-hashing.threads:0}") int threads,
+            @Value("${ticket.password-hashing.queue-capacity:256}") int queueCapacity,
+            @Value("${ticket.password-hashing.max-queue-ms:2000}") long maxQueueMs) {
+        return new PasswordHashingService(passwordEncoder, meterRegistry, threads, queueCapacity, maxQueueMs);
+    }
+}
@@ -0,0 +1,165 @@
+package com.ticket.portfolio.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 전용 실행기
+ * - 로그인 폭주 시 해싱(CPU 바운드)이 요청 스레드에서 다른 요청 처리와 CPU를 다투지 않도록 고정 크기 풀에서만 실행
+ * - 대기열이 가득 차거나 대기 시간이 max-queue-ms를 넘으면 해싱하지 않고 즉시 거절 (PasswordHashingRejectedException)
+ * - 로그인 성공 시 현재 cost보다 낮은 cost로 저장된 해시는 새 해시를 함께 반환 (호출 측에서 저장)
+ * 지표: ticket.password.hash(operation), ticket.password.queue, ticket.password.rejected(reason)
+ * 로그인을 처리하는 서비스(server, auth)에 PasswordHashingAutoConfiguration이 등록합니다 (ticket.password-hashing.* 설정, 종료 시 shutdown 호출).
+ */
+public class PasswordHashingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    // 대기 시간 한도 이후 해싱 자체에 허용하는 시간
+    private static final long HASH_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueNanos;
+
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+    private final Timer queueTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedQueueTimeout;
+
+    /**
+     * @param threads 해싱 스레드 수 (0 이하이면 코어의 절반)
+     * @param queueCapacity 대기열 크기 (가득 차면 즉시 거절)
+     * @param maxQueueMs 대기 시간 한도 (넘으면 해싱하지 않고 거절)
+     */
+    public PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+            int threads, int queueCapacity, long maxQueueMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxQueueNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueMs);
+
+        // 기본값: 코어의 절반 (나머지는 요청 처리용으로 남김)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.verifyTimer = Timer.builder("ticket.password.hash")
+                .description("BCrypt 해싱 시간")
+                .tag("operation", "verify")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("ticket.password.hash")
+                .description("BCrypt 해싱 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.queueTimer = Timer.builder("ticket.password.queue")
+                .description("BCrypt 실행기 대기 시간")
+                .register(meterRegistry);
+        this.rejectedQueueFull = rejectedCounter(meterRegistry, "queue_full");
+        this.rejectedQueueTimeout = rejectedCounter(meterRegistry, "queue_timeout");
+        meterRegistry.gauge("ticket.password.queue.size", executor, e -> e.getQueue().size());
+
+        log.info("Password hashing executor: threads={}, queueCapacity={}, maxQueueMs={}",
+                poolSize, queueCapacity, maxQueueMs);
+    }
+
+    /**
+     * 비밀번호를 검증하고, 일치하며 해시 cost가 낮으면 새 해시를 함께 반환합니다.
+     */
+    public Verification verify(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            boolean matched = verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+            if (!matched || !passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return new Verification(matched, null);
+            }
+            return new Verification(true, encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+        });
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > maxQueueNanos) {
+                    // 호출 측은 이미 포기했으므로 해싱하지 않음
+                    rejectedQueueTimeout.increment();
+                    throw new PasswordHashingRejectedException();
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new PasswordHashingRejectedException();
+        }
+
+        try {
+            return future.get(maxQueueNanos + HASH_BUDGET_NANOS, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedQueueTimeout.increment();
+            throw new PasswordHashingRejectedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("ticket.password.rejected")
+                .description("BCrypt 실행기 포화로 거절된 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param upgradedHash 재해싱된 비밀번호 (갱신이 필요 없으면 null)
+     */
+    public record Verification(boolean matched, String upgradedHash) {
+    }
+
+    /**
+     * 해싱 실행기가 포화 상태라 요청을 처리하지 않았음 (잠시 후 재시도 안내)
+     */
+    public static class PasswordHashingRejectedException extends RuntimeException {
+        public PasswordHashingRejectedException() {
+            super("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ticket.portfolio.tracing;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 분산 추적 공통 설정 (proto를 의존하는 모든 서비스에 자동 적용)
+ * - gRPC 서버/클라이언트 스팬과 컨텍스트 전파는 grpc-spring-boot의 Observation 인터셉터가 담당
+ * - OTLP 전송: MANAGEMENT_OTLP_TRACING_ENDPOINT 환경 변수 지정 시 활성화
+ * - 로컬 실행: ticket.tracing.file-export.path 지정 시 스팬을 JSON Lines 파일로 기록
+ * OpenTelemetry SDK가 없는 서비스(gateway 등)에서는 적용되지 않습니다.
+ */
+@AutoConfiguration
+@ConditionalOnClass(SpanExporter.class)
+public class FileSpanExporterAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "ticket.tracing.file-export.path")
+    public SpanExporter fileSpanExporter(@Value("${ticket.tracing.file-export.path}") String path) throws IOException {
+        return new FileSpanExporter(Path.of(path));
+    }
+}
@@ -0,0 +1,60 @@
+package com.ticket.portfolio.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AdmissionTicketTest {
+
+    private static final String SECRET = "test-admission-secret";
+    private static final long NOW = 1_700_000_000L;
+
+    @Test
+    void verifiesIssuedTicket() {
+        String value = AdmissionTicket.issue(SECRET, 7, "42", NOW + 600);
+
+        AdmissionTicket ticket = AdmissionTicket.verify(SECRET, value, NOW);
+
+        assertNotNull(ticket);
+        assertEquals(7, ticket.getConcertId());
+        assertEquals("42", ticket.getSubject());
+        assertEquals(NOW + 600, ticket.getExpiresAtEpochSecond());
+    }
+
+    @Test
+    void rejectsExpiredTicket() {
+        String value = AdmissionTicket.issue(SECRET, 7, "42", NOW + 600);
+
+        assertNull(AdmissionTicket.verify(SECRET, value, NOW + 600));
+        assertNull(AdmissionTicket.verify(SECRET, value, NOW + 601));
+    }
+
+    @Test
+    void rejectsTamperedTicket() {
+        String value = AdmissionTicket.issue(SECRET, 7, "42", NOW + 600);
+        String signature = value.substring(value.indexOf('.'));
+        // 다른 회차로 바꾼 payload에 원래 서명을 붙인 값
+        String otherConcert = AdmissionTicket.issue(SECRET, 8, "42", NOW + 600);
+        String forged = otherConcert.substring(0, otherConcert.indexOf('.')) + signature;
+
+        assertNull(AdmissionTicket.verify(SECRET, forged, NOW));
+        assertNull(AdmissionTicket.verify("other-secret", value, NOW));
+    }
+
+    @Test
+    void rejectsMalformedValues() {
+        assertNull(AdmissionTicket.verify(SECRET, null, NOW));
+        assertNull(AdmissionTicket.verify(SECRET, "", NOW));
+        assertNull(AdmissionTicket.verify(SECRET, "no-signature", NOW));
+        assertNull(AdmissionTicket.verify(SECRET, ".signature-only", NOW));
+        assertNull(AdmissionTicket.verify(SECRET, "payload.", NOW));
+        assertNull(AdmissionTicket.verify(SECRET, "%%%.%%%", NOW));
+    }
+
+    @Test
+    void cookieNameIsPerConcert() {
+        assertEquals(AdmissionTicket.COOKIE_PREFIX + "7", AdmissionTicket.cookieName(7));
+    }
+}
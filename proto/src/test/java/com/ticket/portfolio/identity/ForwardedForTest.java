@@ -0,0 +1,29 @@
+package com.ticket.portfolio.identity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ForwardedForTest {
+
+    private static final String REMOTE = "10.0.0.1";
+
+    @Test
+    void usesRemoteAddressWhenProxiesAreNotTrusted() {
+        assertEquals(REMOTE, ForwardedFor.clientIp("1.1.1.1", REMOTE, 0));
+        assertEquals(REMOTE, ForwardedFor.clientIp(null, REMOTE, 1));
+        assertEquals(REMOTE, ForwardedFor.clientIp(" ", REMOTE, 1));
+    }
+
+    @Test
+    void ignoresClientSuppliedLeftmostHops() {
+        // 클라이언트가 넣은 9.9.9.9 뒤에 게이트웨이가 실제 연결 주소를 덧붙인 경우
+        assertEquals("2.2.2.2", ForwardedFor.clientIp("9.9.9.9, 2.2.2.2", REMOTE, 1));
+        assertEquals("9.9.9.9", ForwardedFor.clientIp("8.8.8.8, 9.9.9.9, 2.2.2.2", REMOTE, 2));
+    }
+
+    @Test
+    void usesLeftmostHopWhenFewerHopsThanTrusted() {
+        assertEquals("2.2.2.2", ForwardedFor.clientIp("2.2.2.2", REMOTE, 3));
+    }
+}
@@ -0,0 +1,55 @@
+package com.ticket.portfolio.identity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdentityHeadersTest {
+
+    private static final String SECRET = "test-identity-secret";
+    private static final long NOW = 1_700_000_000L;
+    private static final long MAX_SKEW = 60;
+
+    @Test
+    void verifiesSignedHeaders() {
+        String signature = IdentityHeaders.sign(SECRET, "42", "ROLE_USER", NOW);
+
+        assertTrue(IdentityHeaders.verify(SECRET, "42", "ROLE_USER", Long.toString(NOW), signature, NOW, MAX_SKEW));
+        assertTrue(IdentityHeaders.verify(SECRET, "42", "ROLE_USER", Long.toString(NOW), signature,
+                NOW + MAX_SKEW, MAX_SKEW));
+    }
+
+    @Test
+    void rejectsExpiredTimestamp() {
+        String signature = IdentityHeaders.sign(SECRET, "42", "ROLE_USER", NOW);
+
+        assertFalse(IdentityHeaders.verify(SECRET, "42", "ROLE_USER", Long.toString(NOW), signature,
+                NOW + MAX_SKEW + 1, MAX_SKEW));
+        assertFalse(IdentityHeaders.verify(SECRET, "42", "ROLE_USER", Long.toString(NOW), signature,
+                NOW - MAX_SKEW - 1, MAX_SKEW));
+    }
+
+    @Test
+    void rejectsTamperedValues() {
+        String signature = IdentityHeaders.sign(SECRET, "42", "ROLE_USER", NOW);
+
+        assertFalse(IdentityHeaders.verify(SECRET, "43", "ROLE_USER", Long.toString(NOW), signature, NOW, MAX_SKEW));
+        assertFalse(IdentityHeaders.verify(SECRET, "42", "ROLE_USER,ROLE_ADMIN", Long.toString(NOW), signature,
+                NOW, MAX_SKEW));
+        assertFalse(IdentityHeaders.verify(SECRET, "42", "ROLE_USER", Long.toString(NOW + 1), signature,
+                NOW, MAX_SKEW));
+        assertFalse(IdentityHeaders.verify("other-secret", "42", "ROLE_USER", Long.toString(NOW), signature,
+                NOW, MAX_SKEW));
+    }
+
+    @Test
+    void rejectsMissingOrMalformedHeaders() {
+        String signature = IdentityHeaders.sign(SECRET, "42", "ROLE_USER", NOW);
+
+        assertFalse(IdentityHeaders.verify(SECRET, "42", "ROLE_USER", Long.toString(NOW), null, NOW, MAX_SKEW));
+        assertFalse(IdentityHeaders.verify(SECRET, null, "ROLE_USER", Long.toString(NOW), signature, NOW, MAX_SKEW));
+        assertFalse(IdentityHeaders.verify(SECRET, "42", "ROLE_USER", "not-a-number", signature, NOW, MAX_SKEW));
+        assertFalse(IdentityHeaders.verify(SECRET, "42", "ROLE_USER", Long.toString(NOW), "%%%", NOW, MAX_SKEW));
+    }
+}
@@ -0,0 +1,70 @@
+package com.ticket.portfolio.identity;
+
+import io.grpc.Metadata;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InternalCallHeadersTest {
+
+    private static final String SECRET = "test-identity-secret";
+    private static final long NOW = 1_700_000_000L;
+    private static final long MAX_SKEW = 60;
+
+    @Test
+    void verifiesSignedCall() {
+        Metadata headers = new Metadata();
+        InternalCallHeaders.attach(headers, SECRET, "client-service", "1.2.3.4", NOW);
+
+        assertTrue(InternalCallHeaders.verify(headers, SECRET, NOW, MAX_SKEW));
+    }
+
+    @Test
+    void verifiesSignedCallWithoutForwardedFor() {
+        Metadata headers = new Metadata();
+        InternalCallHeaders.attach(headers, SECRET, "payment-service", null, NOW);
+
+        assertTrue(InternalCallHeaders.verify(headers, SECRET, NOW, MAX_SKEW));
+    }
+
+    @Test
+    void rejectsExpiredOrForeignSignature() {
+        Metadata headers = new Metadata();
+        InternalCallHeaders.attach(headers, SECRET, "client-service", "1.2.3.4", NOW);
+
+        assertFalse(InternalCallHeaders.verify(headers, SECRET, NOW + MAX_SKEW + 1, MAX_SKEW));
+        assertFalse(InternalCallHeaders.verify(headers, "other-secret", NOW, MAX_SKEW));
+    }
+
+    @Test
+    void rejectsTamperedClientIp() {
+        Metadata headers = new Metadata();
+        InternalCallHeaders.attach(headers, SECRET, "client-service", "1.2.3.4", NOW);
+        headers.removeAll(InternalCallHeaders.CLIENT_IP);
+        headers.put(InternalCallHeaders.CLIENT_IP, "5.6.7.8");
+
+        assertFalse(InternalCallHeaders.verify(headers, SECRET, NOW, MAX_SKEW));
+    }
+
+    @Test
+    void rejectsUnsignedCall() {
+        Metadata headers = new Metadata();
+        headers.put(InternalCallHeaders.SERVICE, "client-service");
+        headers.put(InternalCallHeaders.CLIENT_IP, "1.2.3.4");
+
+        assertFalse(InternalCallHeaders.verify(headers, SECRET, NOW, MAX_SKEW));
+    }
+
+    @Test
+    void verifiesHttpHeaderValues() {
+        String signature = InternalCallHeaders.sign(SECRET, "gateway", "1.2.3.4", NOW);
+
+        assertTrue(InternalCallHeaders.verify(SECRET, "gateway", "1.2.3.4", Long.toString(NOW), signature,
+                NOW, MAX_SKEW));
+        assertFalse(InternalCallHeaders.verify(SECRET, "gateway", "5.6.7.8", Long.toString(NOW), signature,
+                NOW, MAX_SKEW));
+        assertFalse(InternalCallHeaders.verify(SECRET, "client-service", "1.2.3.4", Long.toString(NOW), signature,
+                NOW, MAX_SKEW));
+    }
+}
@@ -0,0 +1,240 @@
+package com.ticket.portfolio.loadbalancing;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcertAffinityLoadBalancerTest {
+
+    private static final List<EquivalentAddressGroup> SERVERS = List.of(server("ticket-1"), server("ticket-2"),
+            server("ticket-3"));
+
+    @Test
+    void sameConcertAlwaysPicksSameServer() {
+        FakeHelper helper = start(SERVERS, 0, 1, 2);
+
+        for (int concert = 1; concert <= 50; concert++) {
+            String first = address(helper.pick(String.valueOf(concert)));
+            for (int i = 0; i < 5; i++) {
+                assertEquals(first, address(helper.pick(String.valueOf(concert))));
+            }
+        }
+    }
+
+    @Test
+    void ringDoesNotDependOnReadyOrder() {
+        FakeHelper forward = start(SERVERS, 0, 1, 2);
+        FakeHelper reverse = start(SERVERS, 2, 1, 0);
+
+        Set<String> used = new HashSet<>();
+        for (int concert = 1; concert <= 200; concert++) {
+            String owner = address(forward.pick(String.valueOf(concert)));
+            assertEquals(owner, address(reverse.pick(String.valueOf(concert))));
+            used.add(owner);
+        }
+        // 가상 노드로 회차가 모든 서버에 나뉨
+        assertEquals(SERVERS.size(), used.size());
+    }
+
+    @Test
+    void overloadedOwnerSpillsToNextServerOnRing() {
+        FakeHelper helper = start(SERVERS, 0, 1, 2);
+        LoadBalancer.PickResult owner = helper.pick("42");
+
+        // 담당 서버에만 진행 중 요청 10개 → 평균(11/3) x 1.25 = 5 이상이므로 다음 서버로
+        List<ClientStreamTracer> streams = open(owner, 10);
+        LoadBalancer.PickResult spilled = helper.pick("42");
+        assertNotEquals(address(owner), address(spilled));
+        // 넘겨받는 서버도 회차마다 고정 (링의 다음 서버)
+        assertEquals(address(spilled), address(helper.pick("42")));
+
+        streams.forEach(stream -> stream.streamClosed(Status.OK));
+        assertEquals(address(owner), address(helper.pick("42")));
+    }
+
+    @Test
+    void requestsWithoutConcertAvoidMostLoadedServer() {
+        FakeHelper helper = start(SERVERS, 0, 1, 2);
+        LoadBalancer.PickResult busy = helper.pick(null);
+        open(busy, 5);
+
+        // 두 서버를 골라 진행 중 요청이 적은 쪽 선택 → 가장 바쁜 서버는 어느 쌍에서도 선택되지 않음
+        Set<String> picked = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            picked.add(address(helper.pick(null)));
+        }
+        assertFalse(picked.contains(address(busy)));
+        assertEquals(SERVERS.size() - 1, picked.size());
+    }
+
+    @Test
+    void removedServerIsShutDownAndLeavesRing() {
+        FakeHelper helper = start(SERVERS, 0, 1, 2);
+        helper.balancer.acceptResolvedAddresses(resolved(SERVERS.subList(0, 2)));
+
+        FakeSubchannel removed = helper.subchannels.get(2);
+        assertTrue(removed.shutdown);
+        for (int concert = 1; concert <= 100; concert++) {
+            assertNotEquals(removed.address(), address(helper.pick(String.valueOf(concert))));
+        }
+    }
+
+    private static FakeHelper start(List<EquivalentAddressGroup> servers, int... readyOrder) {
+        FakeHelper helper = new FakeHelper();
+        helper.balancer.acceptResolvedAddresses(resolved(servers));
+        for (int index : readyOrder) {
+            helper.subchannels.get(index).ready();
+        }
+        assertEquals(ConnectivityState.READY, helper.state);
+        return helper;
+    }
+
+    private static LoadBalancer.ResolvedAddresses resolved(List<EquivalentAddressGroup> servers) {
+        return LoadBalancer.ResolvedAddresses.newBuilder()
+                .setAddresses(servers)
+                .setLoadBalancingPolicyConfig(new ConcertAffinityLoadBalancer.Config(
+                        ConcertAffinityLoadBalancer.DEFAULT_LOAD_FACTOR,
+                        ConcertAffinityLoadBalancer.DEFAULT_RING_REPLICAS))
+                .build();
+    }
+
+    // 피커가 붙인 트레이서로 진행 중 요청을 만듦 (스트림 생성 = 부하 +1)
+    private static List<ClientStreamTracer> open(LoadBalancer.PickResult pick, int count) {
+        List<ClientStreamTracer> streams = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            streams.add(pick.getStreamTracerFactory().newClientStreamTracer(
+                    ClientStreamTracer.StreamInfo.newBuilder().build(), new Metadata()));
+        }
+        return streams;
+    }
+
+    private static String address(LoadBalancer.PickResult pick) {
+        return ((FakeSubchannel) pick.getSubchannel()).address();
+    }
+
+    private static EquivalentAddressGroup server(String host) {
+        return new EquivalentAddressGroup(InetSocketAddress.createUnresolved(host, 9090));
+    }
+
+    private static final class FakeHelper extends LoadBalancer.Helper {
+
+        final ConcertAffinityLoadBalancer balancer = new ConcertAffinityLoadBalancer(this);
+        final List<FakeSubchannel> subchannels = new ArrayList<>();
+        ConnectivityState state;
+        LoadBalancer.SubchannelPicker picker;
+
+        LoadBalancer.PickResult pick(String concertOptionId) {
+            Metadata headers = new Metadata();
+            if (concertOptionId != null) {
+                headers.put(ConcertAffinity.CONCERT_OPTION_ID_KEY, concertOptionId);
+            }
+            return picker.pickSubchannel(new LoadBalancer.PickSubchannelArgs() {
+                @Override
+                public CallOptions getCallOptions() {
+                    return CallOptions.DEFAULT;
+                }
+
+                @Override
+                public Metadata getHeaders() {
+                    return headers;
+                }
+
+                @Override
+                public MethodDescriptor<?, ?> getMethodDescriptor() {
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        public LoadBalancer.Subchannel createSubchannel(LoadBalancer.CreateSubchannelArgs args) {
+            FakeSubchannel subchannel = new FakeSubchannel(args.getAddresses());
+            subchannels.add(subchannel);
+            return subchannel;
+        }
+
+        @Override
+        public void updateBalancingState(ConnectivityState newState, LoadBalancer.SubchannelPicker newPicker) {
+            state = newState;
+            picker = newPicker;
+        }
+
+        @Override
+        public ManagedChannel createOobChannel(EquivalentAddressGroup eag, String authority) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getAuthority() {
+            return "ticket-server";
+        }
+    }
+
+    private static final class FakeSubchannel extends LoadBalancer.Subchannel {
+
+        private List<EquivalentAddressGroup> addresses;
+        private LoadBalancer.SubchannelStateListener listener;
+        boolean shutdown;
+
+        FakeSubchannel(List<EquivalentAddressGroup> addresses) {
+            this.addresses = addresses;
+        }
+
+        void ready() {
+            listener.onSubchannelState(ConnectivityStateInfo.forNonError(ConnectivityState.READY));
+        }
+
+        String address() {
+            return addresses.get(0).getAddresses().toString();
+        }
+
+        @Override
+        public void start(LoadBalancer.SubchannelStateListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public void requestConnection() {
+        }
+
+        @Override
+        public List<EquivalentAddressGroup> getAllAddresses() {
+            return addresses;
+        }
+
+        @Override
+        public void updateAddresses(List<EquivalentAddressGroup> addrs) {
+            this.addresses = addrs;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return Attributes.EMPTY;
+        }
+    }
+}
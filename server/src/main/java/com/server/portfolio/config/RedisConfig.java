@@ -1,5 +1,7 @@
 package com.server.portfolio.config;
 
+import io.lettuce.core.resource.ClientResources;
+import lombok.RequiredArgsConstructor;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -7,13 +9,19 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
+@RequiredArgsConstructor
 public class RedisConfig {
 
+    // Spring Boot가 구성한 ClientResources (Micrometer 명령 지연 시간 수집기 포함)
+    private final ClientResources clientResources;
+
     @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
 
@@ -23,7 +31,11 @@ public class RedisConfig {
     // 1. Redis 연결 팩토리 (기본)
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisHost, redisPort);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisHost, redisPort),
+                clientConfiguration);
     }
 
     // 2. RedisTemplate (대기열 관리용 - Sorted Set)
@@ -1,15 +1,17 @@
 package com.server.portfolio.config;
 
+import com.server.portfolio.security.GatewayIdentityVerifier;
+import com.server.portfolio.security.IpAbuseFilter;
+import com.server.portfolio.security.IpAbuseGuard;
 import com.server.portfolio.security.JwtAuthenticationFilter;
 import com.server.portfolio.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -19,11 +21,20 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final IpAbuseGuard ipAbuseGuard;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    @Value("${ticket.abuse.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Value("${ticket.abuse.trusted-proxy-hops:1}")
+    private int trustedProxyHops;
+
+    @Value("${ticket.identity.secret}")
+    private String identitySecret;
+
+    @Value("${ticket.identity.max-skew-seconds:60}")
+    private long maxSkewSeconds;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -35,10 +46,14 @@ public class SecurityConfig {
                         .requestMatchers("/api/concerts").permitAll()
                         .requestMatchers("/api/upload-image").permitAll()
                         .requestMatchers("/images/**").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/jfr").hasRole("ADMIN")
                         .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().authenticated())
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
-                        UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, gatewayIdentityVerifier),
+                        UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new IpAbuseFilter(ipAbuseGuard, trustForwardedFor, trustedProxyHops,
+                        identitySecret, maxSkewSeconds), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,27 @@
+package com.server.portfolio.config;
+
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 분산 추적 설정
+ * - gRPC 서버/클라이언트 스팬과 컨텍스트 전파는 grpc-spring-boot의 Observation 인터셉터가 담당
+ * - JDBC 스팬은 datasource-micrometer, Redis 명령 스팬은 Lettuce MicrometerTracing
+ * - OTLP 전송, 로컬 파일 기록은 proto의 FileSpanExporterAutoConfiguration 참고
+ */
+@Configuration
+public class TracingConfig {
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    // Redis 명령 스팬 (Spring Boot가 생성하는 ClientResources에 적용 → RedisConfig에서 사용)
+    @Bean
+    public ClientResourcesBuilderCustomizer lettuceTracingCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder.tracing(new MicrometerTracing(observationRegistry, applicationName));
+    }
+}
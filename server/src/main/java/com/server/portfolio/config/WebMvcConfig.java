@@ -2,11 +2,13 @@ package com.server.portfolio.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
@@ -20,6 +22,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
         String resourceLocation = "file:///" + uploadPath.toFile().getAbsolutePath() + "/";
 
         registry.addResourceHandler("/images/**")
-                .addResourceLocations(resourceLocation);
+                .addResourceLocations(resourceLocation)
+                // 예전 UUID 파일명 업로드 (새 포스터는 PosterImageController: /images/{hash}/{variant})
+                // 업로드 파일명은 UUID라 내용이 바뀌지 않음 - 게이트웨이/브라우저 캐시 허용
+                .setCacheControl(CacheControl.maxAge(10, TimeUnit.MINUTES).cachePublic());
     }
 }
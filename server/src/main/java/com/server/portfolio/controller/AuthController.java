@@ -3,12 +3,12 @@ package com.server.portfolio.controller;
 import com.server.portfolio.domain.User;
 import com.server.portfolio.repository.UserRepository;
 import com.server.portfolio.security.JwtTokenProvider;
+import com.ticket.portfolio.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -24,7 +24,7 @@ public class AuthController {
     private final JwtTokenProvider jwtTokenProvider;
     private final org.springframework.data.redis.core.RedisTemplate<String, String> redisTemplate;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     @PostMapping("/register")
     public ResponseEntity<Map<String, Object>> register(@RequestBody RegisterRequest request) {
@@ -38,7 +38,7 @@ public class AuthController {
 
             User user = User.builder()
                     .email(request.getEmail())
-                    .password(passwordEncoder.encode(request.getPassword()))
+                    .password(passwordHashingService.encode(request.getPassword()))
                     .role(User.Role.USER)
                     .point(0L)
                     .build();
@@ -49,6 +49,8 @@ public class AuthController {
             response.put("message", "회원가입이 완료되었습니다.");
             return ResponseEntity.ok(response);
 
+        } catch (PasswordHashingService.PasswordHashingRejectedException e) {
+            return tooManyRequests(response, e);
         } catch (Exception e) {
             log.error("Registration error", e);
             response.put("success", false);
@@ -64,11 +66,16 @@ public class AuthController {
             User user = userRepository.findByEmail(loginRequest.getEmail())
                     .orElse(null);
 
-            if (user == null || !passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+            PasswordHashingService.Verification verification = user == null ? null
+                    : passwordHashingService.verify(loginRequest.getPassword(), user.getPassword());
+            if (verification == null || !verification.matched()) {
                 response.put("success", false);
                 response.put("message", "이메일 또는 비밀번호가 올바르지 않습니다.");
                 return ResponseEntity.status(401).body(response);
             }
+            if (verification.upgradedHash() != null) {
+                userRepository.upgradePassword(user.getId(), user.getPassword(), verification.upgradedHash());
+            }
 
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     loginRequest.getEmail(), null,
@@ -84,6 +91,8 @@ public class AuthController {
 
             return ResponseEntity.ok(new TokenResponse(accessToken, refreshToken));
 
+        } catch (PasswordHashingService.PasswordHashingRejectedException e) {
+            return tooManyRequests(response, e);
         } catch (Exception e) {
             log.error("Login error", e);
             response.put("success", false);
@@ -125,6 +134,13 @@ public class AuthController {
         return ResponseEntity.ok(new TokenResponse(newAccessToken, newRefreshToken));
     }
 
+    // 해싱 실행기 포화: 예약 처리 보호를 위해 즉시 거절
+    private ResponseEntity<Map<String, Object>> tooManyRequests(Map<String, Object> response, RuntimeException e) {
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return ResponseEntity.status(503).header("Retry-After", "1").body(response);
+    }
+
     @PostMapping("/init-test-data")
     public ResponseEntity<?> initTestData() {
         // This is a temporary method to replace the deleted DataInitializer
@@ -4,10 +4,13 @@ import com.server.portfolio.domain.ConcertOption;
 import com.server.portfolio.repository.ConcertOptionRepository;
 import com.server.portfolio.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
@@ -27,12 +30,14 @@ public class ConcertController {
 
     @Transactional(readOnly = true)
     @GetMapping
-    public Map<String, Object> getConcerts() {
+    public ResponseEntity<Map<String, Object>> getConcerts() {
         log.info("Fetching all concerts via REST");
-        List<ConcertOption> options = concertOptionRepository.findAll();
+        List<ConcertOption> options = concertOptionRepository.findVisible();
 
         List<Map<String, Object>> concerts = options.stream().map(option -> {
-            long availableSeats = seatRepository.findAvailableSeats(option.getId()).size();
+            long availableSeats = option.hasVenueLayout()
+                    ? option.getAvailableSeats()
+                    : seatRepository.findAvailableSeats(option.getId()).size();
             Map<String, Object> m = new HashMap<>();
             m.put("concertId", option.getId());
             m.put("title", option.getConcert().getTitle());
@@ -44,6 +49,9 @@ public class ConcertController {
             return m;
         }).collect(Collectors.toList());
 
-        return Map.of("concerts", concerts);
+        // 사용자와 무관한 공개 목록 - 게이트웨이 응답 캐시가 짧게 보관 (Spring Security 기본 no-store 대체)
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(5)).cachePublic())
+                .body(Map.of("concerts", concerts));
     }
 }
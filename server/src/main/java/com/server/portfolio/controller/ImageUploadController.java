@@ -1,55 +1,51 @@
 package com.server.portfolio.controller;
 
+import com.server.portfolio.service.PosterImageService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class ImageUploadController {
 
-    @Value("${image.upload-dir:./uploads/images}")
-    private String uploadDir;
+    private final PosterImageService posterImageService;
 
-    @Value("${image.base-url:http://localhost:8081/images}")
+    @Value("${image.base-url:/images}")
     private String imageBaseUrl;
 
+    /**
+     * 포스터 업로드
+     * 원본은 내용 해시로 저장되고(같은 이미지는 한 번만 저장), 크기별 변형은 백그라운드에서 생성됩니다.
+     * url은 대시보드 카드용(card) 변형, variants는 크기별 URL
+     */
     @PostMapping("/upload-image")
     public ResponseEntity<?> uploadImage(@RequestParam("file") MultipartFile file) {
         if (file.isEmpty()) {
             return ResponseEntity.badRequest().body(Map.of("success", false, "message", "파일이 비어있습니다."));
         }
 
-        String originalName = file.getOriginalFilename();
-        String ext = originalName != null && originalName.contains(".")
-                ? originalName.substring(originalName.lastIndexOf("."))
-                : ".png";
-
-        String fileName = UUID.randomUUID() + ext;
-
         try {
-            Path dirPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            if (!Files.exists(dirPath)) {
-                Files.createDirectories(dirPath);
-            }
+            String hash = posterImageService.store(file);
 
-            Path destPath = dirPath.resolve(fileName);
-            file.transferTo(destPath.toFile());
-
-            String url = imageBaseUrl + "/" + fileName;
-            log.info("Image uploaded successfully to: {}", destPath.toString());
-            return ResponseEntity.ok(Map.of("success", true, "url", url));
+            Map<String, String> variants = new LinkedHashMap<>();
+            for (PosterImageService.Variant variant : PosterImageService.Variant.values()) {
+                variants.put(variant.path(), imageBaseUrl + "/" + hash + "/" + variant.path());
+            }
+            return ResponseEntity.ok(Map.of("success", true,
+                    "url", variants.get(PosterImageService.Variant.CARD.path()),
+                    "variants", variants));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
         } catch (IOException e) {
             log.error("Image upload failed", e);
             return ResponseEntity.internalServerError()
@@ -0,0 +1,77 @@
+package com.server.portfolio.controller;
+
+import com.server.portfolio.service.PosterImageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포스터 변형 이미지 제공: /images/{hash}/{thumbnail|card|full}
+ * - 경로가 내용 해시이므로 1년 immutable 캐시, ETag = 해시 + 변형 + 형식
+ * - WebP writer가 있는 서버에서는 브라우저가 WebP를 받으면(Accept) WebP, 아니면 JPEG (Vary: Accept)
+ * - Range 요청은 Resource 응답으로 처리 (206)
+ * - 변형 생성 전에는 원본을 캐시 금지로 제공 (곧 변형으로 대체되므로)
+ * 예전 UUID 파일명 이미지(/images/{파일명})는 WebMvcConfig 리소스 핸들러가 그대로 제공합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class PosterImageController {
+
+    private static final MediaType WEBP = MediaType.parseMediaType("image/webp");
+
+    private final PosterImageService posterImageService;
+
+    @GetMapping("/images/{hash}/{variant}")
+    public ResponseEntity<Resource> image(@PathVariable String hash, @PathVariable String variant,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
+        PosterImageService.Variant size = PosterImageService.Variant.fromPath(variant);
+        if (size == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        boolean webp = posterImageService.isWebpSupported() && accept != null && accept.contains("image/webp");
+        Path path = posterImageService.variant(hash, size, webp);
+        if (path != null) {
+            String etag = "\"" + hash + "-" + size.path() + (webp ? "-webp" : "-jpg") + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                    .eTag(etag)
+                    .contentType(webp ? WEBP : MediaType.IMAGE_JPEG);
+            if (posterImageService.isWebpSupported()) {
+                builder.varyBy(HttpHeaders.ACCEPT);
+            }
+            return builder.body(new FileSystemResource(path));
+        }
+
+        // 변형 생성 중: 원본 제공 (브라우저/게이트웨이 모두 저장하지 않음)
+        Path original = posterImageService.original(hash);
+        if (original == null) {
+            return ResponseEntity.notFound().build();
+        }
+        String etag = "\"" + hash + "-original\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .eTag(etag)
+                .contentType(MediaType.parseMediaType(posterImageService.originalContentType(original)))
+                .body(new FileSystemResource(original));
+    }
+}
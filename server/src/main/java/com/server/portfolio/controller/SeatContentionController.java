@@ -0,0 +1,108 @@
+package com.server.portfolio.controller;
+
+import com.server.portfolio.domain.ConcertOption;
+import com.server.portfolio.domain.Seat;
+import com.server.portfolio.domain.VenueLayout;
+import com.server.portfolio.metrics.SeatContentionTracker;
+import com.server.portfolio.repository.ConcertOptionRepository;
+import com.server.portfolio.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 락 경합 히트맵 (관리자용)
+ * heat는 조회된 좌석 중 최대 경합 횟수 대비 비율 (0~1)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/seat-contention")
+@RequiredArgsConstructor
+public class SeatContentionController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final SeatContentionTracker seatContentionTracker;
+    private final ConcertOptionRepository concertOptionRepository;
+    private final SeatRepository seatRepository;
+
+    @Transactional(readOnly = true)
+    @GetMapping("/{concertOptionId}")
+    public ResponseEntity<Map<String, Object>> getHeatmap(@PathVariable Long concertOptionId,
+            @RequestParam(defaultValue = "50") int limit) {
+        SeatContentionTracker.Snapshot snapshot = seatContentionTracker.snapshot(concertOptionId,
+                Math.max(1, Math.min(limit, MAX_LIMIT)));
+        if (snapshot == null) {
+            return ResponseEntity.ok(Map.of("concertOptionId", concertOptionId, "totalContended", 0,
+                    "totalFailures", 0, "seats", List.of()));
+        }
+
+        VenueLayout layout = concertOptionRepository.findById(concertOptionId)
+                .filter(ConcertOption::hasVenueLayout)
+                .map(ConcertOption::getVenueLayout)
+                .orElse(null);
+        List<Long> realSeatIds = snapshot.seats().stream()
+                .map(SeatContentionTracker.HotSeat::seatId)
+                .filter(id -> !VenueLayout.isVirtualSeatId(id))
+                .toList();
+        Map<Long, Seat> realSeats = seatRepository.findAllById(realSeatIds).stream()
+                .collect(Collectors.toMap(Seat::getId, Function.identity()));
+
+        long maxContended = snapshot.seats().isEmpty() ? 1 : Math.max(1, snapshot.seats().get(0).contended());
+        List<Map<String, Object>> seats = new ArrayList<>();
+        for (SeatContentionTracker.HotSeat hot : snapshot.seats()) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("seatId", hot.seatId());
+            putPosition(m, hot.seatId(), layout, realSeats.get(hot.seatId()));
+            m.put("contended", hot.contended());
+            m.put("lockFailures", hot.failures());
+            m.put("avgWaitMs", hot.contended() > 0 ? hot.waitMicros() / 1000.0 / hot.contended() : 0);
+            m.put("conflictingUsers", hot.conflictingUsers());
+            m.put("conflictingUsersCapped", hot.usersCapped());
+            m.put("heat", (double) hot.contended() / maxContended);
+            seats.add(m);
+        }
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("concertOptionId", concertOptionId);
+        body.put("totalContended", snapshot.totalContended());
+        body.put("totalFailures", snapshot.totalFailures());
+        body.put("seats", seats);
+        return ResponseEntity.ok(body);
+    }
+
+    @DeleteMapping("/{concertOptionId}")
+    public ResponseEntity<Void> reset(@PathVariable Long concertOptionId) {
+        log.info("Resetting seat contention stats for option {}", concertOptionId);
+        seatContentionTracker.reset(concertOptionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private void putPosition(Map<String, Object> m, long seatId, VenueLayout layout, Seat seat) {
+        int seatNumber;
+        if (VenueLayout.isVirtualSeatId(seatId)) {
+            seatNumber = VenueLayout.seatNumberOf(seatId);
+        } else if (seat != null) {
+            seatNumber = seat.getSeatNumber();
+        } else {
+            return;
+        }
+        m.put("seatNumber", seatNumber);
+        if (layout != null) {
+            VenueLayout.SeatPosition position = layout.positionOf(seatNumber);
+            m.put("section", position.section());
+            m.put("row", position.row());
+            m.put("numberInRow", position.number());
+        }
+    }
+}
@@ -5,10 +5,14 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
+// 변경된 컬럼만 UPDATE - 좌석 상태 벡터(seat_states)는 VenueSeatService가 SQL로 직접 갱신하므로
+// 다른 필드 변경 시 오래된 벡터로 덮어쓰지 않도록
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "concert_options") // 테이블 명시
@@ -29,10 +33,67 @@ public class ConcertOption {
     @Column(nullable = false)
     private Long price;
 
+    // 좌석 생성 상태 (null = 기존 방식으로 등록된 회차, 공개 상태로 취급)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ProvisionStatus provisionStatus;
+
+    // 생성 목표 좌석 수 (청크 단위 생성 재개 시 기준)
+    private Integer totalSeats;
+
+    // 배치도 템플릿 기반 회차 (null이면 회차별 Seat 행을 모두 생성한 기존 방식)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "venue_layout_id")
+    private VenueLayout venueLayout;
+
+    // 배치도 기반 회차의 좌석 상태 벡터 (SeatStateVector 참고)
+    @Lob
+    @Column(name = "seat_states")
+    private byte[] seatStates;
+
+    // 배치도 기반 회차의 잔여 좌석 수 (목록 조회 시 벡터 전체를 세지 않도록 유지, 벡터와 함께 갱신)
+    private Integer availableSeats;
+
+    public enum ProvisionStatus {
+        PROVISIONING, // 좌석 생성 중 (목록에 노출되지 않음)
+        OPEN // 모든 좌석 생성 완료
+    }
+
     @Builder
     public ConcertOption(Concert concert, LocalDateTime concertDate, Long price) {
         this.concert = concert;
         this.concertDate = concertDate;
         this.price = price != null ? price : 0L;
     }
+
+    public void startProvisioning(int totalSeats) {
+        this.provisionStatus = ProvisionStatus.PROVISIONING;
+        this.totalSeats = totalSeats;
+    }
+
+    public void applyVenueLayout(VenueLayout layout) {
+        this.venueLayout = layout;
+        this.seatStates = SeatStateVector.create(layout.getTotalSeats());
+        this.availableSeats = layout.getTotalSeats();
+    }
+
+    // 좌석 생성이 끝난(또는 기존 방식으로 등록된) 회차만 조회/예약 가능
+    public boolean isVisible() {
+        return provisionStatus == null || provisionStatus == ProvisionStatus.OPEN;
+    }
+
+    public boolean hasVenueLayout() {
+        return seatStates != null;
+    }
+
+    public Seat.SeatStatus getSeatState(int seatNumber) {
+        return SeatStateVector.get(seatStates, seatNumber);
+    }
+
+    public void open() {
+        if (this.provisionStatus != ProvisionStatus.PROVISIONING) {
+            throw new IllegalStateException("좌석 생성 중인 회차만 공개할 수 있습니다.");
+        }
+        this.provisionStatus = ProvisionStatus.OPEN;
+    }
 }
@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "seats")
+@Table(name = "seats", uniqueConstraints = @UniqueConstraint(name = "uk_seat_option_number", columnNames = {
+        "concert_option_id", "seat_number" }))
 public class Seat {
 
     @Id
@@ -32,6 +33,7 @@ public class Seat {
     @Version
     private Long version;
 
+    // 순서 변경 금지: SeatStateVector가 ordinal 값으로 저장함
     public enum SeatStatus {
         AVAILABLE, RESERVED, SOLD
     }
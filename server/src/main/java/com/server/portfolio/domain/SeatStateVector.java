@@ -0,0 +1,36 @@
+package com.server.portfolio.domain;
+
+/**
+ * 회차별 좌석 상태를 좌석당 2비트로 압축 저장하는 벡터
+ * (50,000석 기준 약 12.5KB)
+ * 갱신은 VenueSeatService가 좌석이 속한 바이트만 SQL로 바꿈 (byteIndex/shift/MASK)
+ */
+public final class SeatStateVector {
+
+    private static final int BITS_PER_SEAT = 2;
+    private static final int SEATS_PER_BYTE = 8 / BITS_PER_SEAT;
+    public static final int MASK = 0b11;
+
+    private SeatStateVector() {
+    }
+
+    // 모든 좌석이 AVAILABLE(0)인 벡터 생성
+    public static byte[] create(int seatCount) {
+        return new byte[(seatCount + SEATS_PER_BYTE - 1) / SEATS_PER_BYTE];
+    }
+
+    public static Seat.SeatStatus get(byte[] states, int seatNumber) {
+        int value = (states[byteIndex(seatNumber)] >> shift(seatNumber)) & MASK;
+        return Seat.SeatStatus.values()[value];
+    }
+
+    // 좌석이 들어 있는 바이트 위치 (0부터)
+    public static int byteIndex(int seatNumber) {
+        return (seatNumber - 1) / SEATS_PER_BYTE;
+    }
+
+    // 바이트 안에서 좌석 상태의 비트 위치
+    public static int shift(int seatNumber) {
+        return ((seatNumber - 1) % SEATS_PER_BYTE) * BITS_PER_SEAT;
+    }
+}
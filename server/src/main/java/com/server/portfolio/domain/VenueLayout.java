@@ -0,0 +1,91 @@
+package com.server.portfolio.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공연장 좌석 배치 템플릿
+ * - 같은 공연장을 쓰는 회차들이 공유하며, 회차별 Seat 행을 미리 만들지 않음
+ * - 좌석 번호는 구역 순서 → 열 → 열 내 번호 순으로 1부터 부여
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "venue_layouts")
+public class VenueLayout {
+
+    // 가상 좌석 ID 인코딩 기준 (회차당 최대 좌석 수)
+    private static final long VIRTUAL_SEAT_RADIX = 1_000_000L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private Integer totalSeats;
+
+    @ElementCollection
+    @CollectionTable(name = "venue_layout_sections", joinColumns = @JoinColumn(name = "venue_layout_id"))
+    @OrderColumn(name = "section_order")
+    private List<VenueSection> sections = new ArrayList<>();
+
+    @Builder
+    public VenueLayout(String name, List<VenueSection> sections) {
+        if (sections == null || sections.isEmpty()) {
+            throw new IllegalArgumentException("최소 한 개의 구역이 필요합니다.");
+        }
+        int total = sections.stream().mapToInt(VenueSection::getSeatCount).sum();
+        if (total >= VIRTUAL_SEAT_RADIX) {
+            throw new IllegalArgumentException("좌석 수가 너무 많습니다: " + total);
+        }
+        this.name = name;
+        this.sections = new ArrayList<>(sections);
+        this.totalSeats = total;
+    }
+
+    // 좌석 번호(1부터) → 구역/열/열 내 번호
+    public SeatPosition positionOf(int seatNumber) {
+        int offset = seatNumber - 1;
+        for (VenueSection section : sections) {
+            if (offset < section.getSeatCount()) {
+                return new SeatPosition(section.getName(),
+                        offset / section.getSeatsPerRow() + 1,
+                        offset % section.getSeatsPerRow() + 1);
+            }
+            offset -= section.getSeatCount();
+        }
+        throw new IllegalArgumentException("좌석 " + seatNumber + "은(는) 배치도에 없습니다.");
+    }
+
+    /**
+     * 배치도 기반 회차의 좌석은 실제 Seat 행이 없을 수 있으므로 (회차 ID, 좌석 번호)를
+     * 음수 ID로 인코딩해 클라이언트에 노출합니다.
+     */
+    public static long virtualSeatId(long concertOptionId, int seatNumber) {
+        return -(concertOptionId * VIRTUAL_SEAT_RADIX + seatNumber);
+    }
+
+    public static boolean isVirtualSeatId(long seatId) {
+        return seatId < 0;
+    }
+
+    public static long concertOptionIdOf(long virtualSeatId) {
+        return -virtualSeatId / VIRTUAL_SEAT_RADIX;
+    }
+
+    public static int seatNumberOf(long virtualSeatId) {
+        return (int) (-virtualSeatId % VIRTUAL_SEAT_RADIX);
+    }
+
+    public record SeatPosition(String section, int row, int number) {
+    }
+}
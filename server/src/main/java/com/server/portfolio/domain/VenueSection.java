@@ -0,0 +1,35 @@
+package com.server.portfolio.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VenueSection {
+
+    @Column(nullable = false)
+    private String name; // 구역명 (예: "A", "VIP")
+
+    @Column(nullable = false)
+    private Integer rowCount;
+
+    @Column(nullable = false)
+    private Integer seatsPerRow;
+
+    public VenueSection(String name, Integer rowCount, Integer seatsPerRow) {
+        if (rowCount == null || rowCount <= 0 || seatsPerRow == null || seatsPerRow <= 0) {
+            throw new IllegalArgumentException("구역 " + name + "의 열/좌석 수는 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.rowCount = rowCount;
+        this.seatsPerRow = seatsPerRow;
+    }
+
+    public int getSeatCount() {
+        return rowCount * seatsPerRow;
+    }
+}
@@ -0,0 +1,32 @@
+package com.server.portfolio.grpc;
+
+import com.ticket.portfolio.loadbalancing.ConcertAffinity;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+/**
+ * 호출 메타데이터의 concert-option-id를 Context에 보관
+ * 게이트웨이 대기실 필터는 이 메타데이터의 회차로 입장 여부를 확인하므로,
+ * 서비스 메서드는 요청 본문의 회차가 이 값과 같은지 확인해 다른 회차로 바꿔치기한 요청을 거절합니다.
+ */
+@GrpcGlobalServerInterceptor
+public class ConcertOptionServerInterceptor implements ServerInterceptor {
+
+    public static final Context.Key<String> CONCERT_OPTION_ID = Context.key("concert-option-id");
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        String concertOptionId = headers.get(ConcertAffinity.CONCERT_OPTION_ID_KEY);
+        if (concertOptionId == null) {
+            return next.startCall(call, headers);
+        }
+        Context context = Context.current().withValue(CONCERT_OPTION_ID, concertOptionId);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+}
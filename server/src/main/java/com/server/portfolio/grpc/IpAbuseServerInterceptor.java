@@ -0,0 +1,80 @@
+package com.server.portfolio.grpc;
+
+import com.server.portfolio.security.IpAbuseGuard;
+import com.ticket.portfolio.identity.ForwardedFor;
+import com.ticket.portfolio.identity.InternalCallHeaders;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * gRPC 요청 IP 차단/빈도 제한 (Load Shedding 이전에 실행하여 봇 요청이 동시성 한도를 차지하지 않도록 함)
+ * - 서명된 내부 호출(InternalCallHeaders, client/payment/게이트웨이 gRPC 라우트): 함께 서명된 사용자 IP로 판단,
+ *   사용자 IP가 없으면 서비스 간 호출로 보고 제한하지 않음
+ * - 그 외 호출(직접 연결): 연결 주소로 판단
+ *   앞단 프록시를 신뢰하도록 설정한 경우(ticket.abuse.trust-forwarded-for)에만 x-forwarded-for의 신뢰 구간 값 사용
+ */
+@GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_TRACING_METRICS + 50)
+@RequiredArgsConstructor
+public class IpAbuseServerInterceptor implements ServerInterceptor {
+
+    private static final Metadata.Key<String> FORWARDED_FOR =
+            Metadata.Key.of("x-forwarded-for", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final IpAbuseGuard ipAbuseGuard;
+
+    @Value("${ticket.abuse.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Value("${ticket.abuse.trusted-proxy-hops:1}")
+    private int trustedProxyHops;
+
+    @Value("${ticket.identity.secret}")
+    private String identitySecret;
+
+    @Value("${ticket.identity.max-skew-seconds:60}")
+    private long maxSkewSeconds;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        String clientIp = clientIp(call, headers);
+        if (clientIp != null && !ipAbuseGuard.allow(clientIp)) {
+            call.close(Status.PERMISSION_DENIED.withDescription("요청이 차단되었습니다."), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return next.startCall(call, headers);
+    }
+
+    // 제한하지 않는 내부 서비스 간 호출이면 null
+    private String clientIp(ServerCall<?, ?> call, Metadata headers) {
+        if (headers.containsKey(InternalCallHeaders.SIGNATURE)
+                && InternalCallHeaders.verify(headers, identitySecret, System.currentTimeMillis() / 1000,
+                        maxSkewSeconds)) {
+            return headers.get(InternalCallHeaders.CLIENT_IP);
+        }
+        return ForwardedFor.clientIp(headers.get(FORWARDED_FOR), remoteAddr(call),
+                trustForwardedFor ? trustedProxyHops : 0);
+    }
+
+    private static String remoteAddr(ServerCall<?, ?> call) {
+        SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        if (address instanceof InetSocketAddress inet) {
+            return inet.getAddress() != null ? inet.getAddress().getHostAddress() : inet.getHostString();
+        }
+        return address != null ? address.toString() : "unknown";
+    }
+}
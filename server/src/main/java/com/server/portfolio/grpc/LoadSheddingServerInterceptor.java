@@ -0,0 +1,113 @@
+package com.server.portfolio.grpc;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메서드별 적응형 동시성 제한 (Load Shedding)
+ * - 한도를 넘는 Unary 호출은 대기시키지 않고 즉시 RESOURCE_EXHAUSTED로 거절
+ * - 거절 시 trailer의 retry-after-ms 로 재시도 시점을 안내
+ * - 스트리밍 호출(좌석 생성 진행률, 로그 스트림)은 수명이 길어 RTT 측정 대상에서 제외
+ */
+@Slf4j
+@GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_TRACING_METRICS + 100)
+public class LoadSheddingServerInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> RETRY_AFTER_KEY =
+            Metadata.Key.of("retry-after-ms", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final Map<String, VegasConcurrencyLimit> limits = new ConcurrentHashMap<>();
+
+    @Value("${ticket.load-shedding.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ticket.load-shedding.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${ticket.load-shedding.min-limit:4}")
+    private int minLimit;
+
+    @Value("${ticket.load-shedding.max-limit:400}")
+    private int maxLimit;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        if (!enabled || method.getType() != MethodDescriptor.MethodType.UNARY) {
+            return next.startCall(call, headers);
+        }
+
+        VegasConcurrencyLimit limit = limits.computeIfAbsent(method.getFullMethodName(),
+                name -> new VegasConcurrencyLimit(initialLimit, minLimit, maxLimit));
+
+        if (!limit.tryAcquire()) {
+            long retryAfter = limit.retryAfterMillis();
+            log.warn("Shedding {} (inflight={}, limit={}, retryAfter={}ms)",
+                    method.getFullMethodName(), limit.getInflight(), limit.getLimit(), retryAfter);
+            Metadata trailers = new Metadata();
+            trailers.put(RETRY_AFTER_KEY, Long.toString(retryAfter));
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription("서버가 혼잡합니다. 잠시 후 다시 시도해주세요."),
+                    trailers);
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        long startNanos = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+
+        ServerCall<ReqT, RespT> measuredCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                if (released.compareAndSet(false, true)) {
+                    limit.release(System.nanoTime() - startNanos, isOverloadStatus(status));
+                }
+                super.close(status, trailers);
+            }
+        };
+
+        ServerCall.Listener<ReqT> delegate;
+        try {
+            delegate = next.startCall(measuredCall, headers);
+        } catch (RuntimeException e) {
+            if (released.compareAndSet(false, true)) {
+                limit.releaseWithoutSample();
+            }
+            throw e;
+        }
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(delegate) {
+            @Override
+            public void onCancel() {
+                // 클라이언트가 먼저 끊은 경우: 응답 시간이 측정되지 않았으므로 슬롯만 반납
+                if (released.compareAndSet(false, true)) {
+                    limit.releaseWithoutSample();
+                }
+                super.onCancel();
+            }
+        };
+    }
+
+    private boolean isOverloadStatus(Status status) {
+        Status.Code code = status.getCode();
+        return code == Status.Code.DEADLINE_EXCEEDED
+                || code == Status.Code.UNAVAILABLE
+                || code == Status.Code.RESOURCE_EXHAUSTED;
+    }
+}
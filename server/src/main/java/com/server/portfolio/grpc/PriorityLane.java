@@ -0,0 +1,48 @@
+package com.server.portfolio.grpc;
+
+import com.ticket.portfolio.TicketServiceGrpc;
+
+import java.util.Set;
+
+/**
+ * 과부하 시 처리 우선순위 (ordinal이 작을수록 우선)
+ */
+public enum PriorityLane {
+    PAYMENT,  // 결제 확정/환불 - 돈이 오가는 호출
+    HOLD,     // 좌석 선점
+    READ;     // 공연 목록, 좌석 조회 등 그 외 호출
+
+    private static final Set<String> PAYMENT_METHODS = Set.of(
+            TicketServiceGrpc.getCompleteReservationMethod().getFullMethodName(),
+            TicketServiceGrpc.getRefundReservationMethod().getFullMethodName());
+
+    private static final Set<String> HOLD_METHODS = Set.of(
+            TicketServiceGrpc.getReserveSeatMethod().getFullMethodName());
+
+    // DB 슬롯 없이 실행하는 호출
+    // - 로그인: 조회 한 번 + BCrypt(CPU) → DB 슬롯을 잡으면 해시 계산 동안 다른 레인을 막음
+    // - 대기열 토큰 발급/가상 유저 주입: Redis만 사용
+    private static final Set<String> UNGATED_METHODS = Set.of(
+            TicketServiceGrpc.getLoginMethod().getFullMethodName(),
+            TicketServiceGrpc.getIssueTokenMethod().getFullMethodName(),
+            TicketServiceGrpc.getDebugFillQueueMethod().getFullMethodName());
+
+    public static PriorityLane classify(String fullMethodName) {
+        if (PAYMENT_METHODS.contains(fullMethodName)) {
+            return PAYMENT;
+        }
+        if (HOLD_METHODS.contains(fullMethodName)) {
+            return HOLD;
+        }
+        return READ;
+    }
+
+    /**
+     * 인터셉터가 호출 전체 구간에 슬롯을 잡는 호출인지
+     * - HOLD: 좌석 락 대기 이후 트랜잭션 구간에서만 서비스가 직접 획득
+     * - UNGATED_METHODS: 슬롯 없이 실행
+     */
+    public static boolean isGatedByInterceptor(String fullMethodName) {
+        return !HOLD_METHODS.contains(fullMethodName) && !UNGATED_METHODS.contains(fullMethodName);
+    }
+}
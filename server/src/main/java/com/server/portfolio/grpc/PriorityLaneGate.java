@@ -0,0 +1,115 @@
+package com.server.portfolio.grpc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레인별 DB 커넥션 슬롯 획득/반납 (PriorityLaneScheduler + 대기 시간 지표)
+ * - PAYMENT/READ 호출은 PriorityLaneServerInterceptor가 서비스 메서드 실행 구간에 슬롯을 잡음
+ * - HOLD(좌석 선점)는 좌석 락 대기가 끝난 뒤 트랜잭션 구간에서만 서비스 코드가 직접 잡음
+ *   → 락 대기(최대 수 초) 동안 DB 슬롯을 묶어두지 않음
+ * - 레인별 대기 시간은 ticket.grpc.lane.wait 타이머로 기록
+ * 분할 범위는 gRPC Unary 호출(TicketService)뿐입니다. 아래 DB 사용은 슬롯을 거치지 않고 Hikari 풀을 직접 씁니다.
+ * - REST 컨트롤러(/api/concerts, /api/auth, 이미지 업로드), 서버 스트리밍 호출(ProvisionConcert의 청크 트랜잭션)
+ * - @Scheduled 작업, 백그라운드 실행기
+ * 따라서 예약분(payment-reserved/hold-reserved)은 이들이 커넥션을 점유하지 않을 때의 보장이며,
+ * 대량 등록 중에는 hikari connection-timeout이 최종 상한이 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriorityLaneGate {
+
+    // 서비스가 직접 슬롯을 잡는 호출(좌석 선점)이 제한 시간 안에 슬롯을 얻지 못했을 때의 응답 오류 코드
+    public static final String LANE_BUSY = "LANE_BUSY";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ticket.priority-lanes.enabled:true}")
+    private boolean enabled;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${ticket.priority-lanes.payment-reserved:3}")
+    private int paymentReserved;
+
+    @Value("${ticket.priority-lanes.hold-reserved:3}")
+    private int holdReserved;
+
+    @Value("${ticket.priority-lanes.payment-timeout-ms:3000}")
+    private long paymentTimeoutMs;
+
+    @Value("${ticket.priority-lanes.hold-timeout-ms:1000}")
+    private long holdTimeoutMs;
+
+    @Value("${ticket.priority-lanes.read-timeout-ms:300}")
+    private long readTimeoutMs;
+
+    private PriorityLaneScheduler scheduler;
+    private final Map<PriorityLane, Timer> waitTimers = new EnumMap<>(PriorityLane.class);
+
+    @PostConstruct
+    public void init() {
+        scheduler = new PriorityLaneScheduler(connectionPoolSize, paymentReserved, holdReserved);
+        for (PriorityLane lane : PriorityLane.values()) {
+            String tag = lane.name().toLowerCase();
+            waitTimers.put(lane, Timer.builder("ticket.grpc.lane.wait")
+                    .description("우선순위 레인 슬롯 대기 시간")
+                    .tag("lane", tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+            meterRegistry.gauge("ticket.grpc.lane.waiting", Tags.of("lane", tag), scheduler, s -> s.getWaiting(lane));
+        }
+        log.info("Priority lanes: pool={}, paymentReserved={}, holdReserved={}",
+                connectionPoolSize, paymentReserved, holdReserved);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 슬롯을 획득합니다. 제한 시간 안에 얻지 못하면 false (성공 시 반드시 release 호출)
+     * 비활성화 상태에서는 항상 true
+     */
+    public boolean acquire(PriorityLane lane) {
+        if (!enabled) {
+            return true;
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = scheduler.acquire(lane, timeoutOf(lane), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimers.get(lane).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return acquired;
+    }
+
+    public void release() {
+        if (enabled) {
+            scheduler.release();
+        }
+    }
+
+    public long timeoutOf(PriorityLane lane) {
+        return switch (lane) {
+            case PAYMENT -> paymentTimeoutMs;
+            case HOLD -> holdTimeoutMs;
+            case READ -> readTimeoutMs;
+        };
+    }
+}
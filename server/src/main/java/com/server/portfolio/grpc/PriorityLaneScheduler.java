@@ -0,0 +1,99 @@
+package com.server.portfolio.grpc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 커넥션 풀 크기만큼의 실행 슬롯을 레인별로 분할하여 배분
+ * - 상위 레인을 위해 예약된 슬롯은 하위 레인이 사용할 수 없음
+ *   (READ는 결제/선점 예약분을 제외한 슬롯만, HOLD는 결제 예약분을 제외한 슬롯만 사용)
+ * - 슬롯이 반납되면 대기 중인 가장 높은 레인부터 깨움
+ */
+public class PriorityLaneScheduler {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition[] conditions = new Condition[PriorityLane.values().length];
+    private final int[] waiters = new int[PriorityLane.values().length];
+    private final int[] reservedForHigherLanes = new int[PriorityLane.values().length];
+
+    private int available;
+
+    /**
+     * @param totalPermits 전체 슬롯 수 (Hikari maximum-pool-size)
+     * @param paymentReserved PAYMENT 레인 전용 슬롯 수
+     * @param holdReserved HOLD 이상 레인 전용 슬롯 수
+     */
+    public PriorityLaneScheduler(int totalPermits, int paymentReserved, int holdReserved) {
+        if (paymentReserved + holdReserved >= totalPermits) {
+            throw new IllegalArgumentException("예약 슬롯 합계(" + (paymentReserved + holdReserved)
+                    + ")는 전체 슬롯(" + totalPermits + ")보다 작아야 합니다.");
+        }
+        this.available = totalPermits;
+        for (int i = 0; i < conditions.length; i++) {
+            conditions[i] = lock.newCondition();
+        }
+        reservedForHigherLanes[PriorityLane.PAYMENT.ordinal()] = 0;
+        reservedForHigherLanes[PriorityLane.HOLD.ordinal()] = paymentReserved;
+        reservedForHigherLanes[PriorityLane.READ.ordinal()] = paymentReserved + holdReserved;
+    }
+
+    /**
+     * 슬롯을 획득합니다. 제한 시간 안에 얻지 못하면 false를 반환합니다.
+     */
+    public boolean acquire(PriorityLane lane, long timeout, TimeUnit unit) throws InterruptedException {
+        int index = lane.ordinal();
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            // 같은 레인에 먼저 대기 중인 호출이 있으면 새치기하지 않음
+            if (waiters[index] == 0 && canRun(index)) {
+                available--;
+                return true;
+            }
+            waiters[index]++;
+            try {
+                while (!canRun(index)) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = conditions[index].awaitNanos(remaining);
+                }
+                available--;
+                return true;
+            } finally {
+                waiters[index]--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            available++;
+            for (int i = 0; i < conditions.length; i++) {
+                if (waiters[i] > 0 && canRun(i)) {
+                    conditions[i].signal();
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting(PriorityLane lane) {
+        lock.lock();
+        try {
+            return waiters[lane.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean canRun(int laneIndex) {
+        return available > reservedForHigherLanes[laneIndex];
+    }
+}
@@ -0,0 +1,63 @@
+package com.server.portfolio.grpc;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.core.annotation.Order;
+
+/**
+ * TicketService 앞단의 우선순위 스케줄러
+ * - 호출을 PAYMENT / HOLD / READ 레인으로 분류하고 레인별로 분할된 DB 커넥션 슬롯을 배분 (PriorityLaneGate)
+ * - Unary 호출은 onHalfClose에서 서비스 메서드가 동기 실행되므로 그 구간에만 슬롯을 점유
+ * - 좌석 선점(HOLD)은 서비스가 트랜잭션 구간에서 직접, DB를 거의 쓰지 않는 호출은 슬롯 없이 실행
+ *   (PriorityLane.isGatedByInterceptor)
+ */
+@Slf4j
+@GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_TRACING_METRICS + 200)
+@RequiredArgsConstructor
+public class PriorityLaneServerInterceptor implements ServerInterceptor {
+
+    private final PriorityLaneGate gate;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        if (!gate.isEnabled() || method.getType() != MethodDescriptor.MethodType.UNARY
+                || !PriorityLane.isGatedByInterceptor(method.getFullMethodName())) {
+            return next.startCall(call, headers);
+        }
+
+        PriorityLane lane = PriorityLane.classify(method.getFullMethodName());
+        ServerCall.Listener<ReqT> delegate = next.startCall(call, headers);
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(delegate) {
+            @Override
+            public void onHalfClose() {
+                if (!gate.acquire(lane)) {
+                    log.warn("Lane {} queue timeout: {}", lane, method.getFullMethodName());
+                    Metadata trailers = new Metadata();
+                    trailers.put(LoadSheddingServerInterceptor.RETRY_AFTER_KEY, Long.toString(gate.timeoutOf(lane)));
+                    call.close(Status.RESOURCE_EXHAUSTED.withDescription("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+                            trailers);
+                    return;
+                }
+
+                try {
+                    super.onHalfClose();
+                } finally {
+                    gate.release();
+                }
+            }
+        };
+    }
+}
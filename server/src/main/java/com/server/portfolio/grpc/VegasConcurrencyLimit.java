@@ -0,0 +1,123 @@
+package com.server.portfolio.grpc;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RTT 기반 적응형 동시성 한도 (TCP Vegas 방식)
+ * - 부하가 없을 때의 최소 RTT(rttNoLoad) 대비 현재 RTT로 서버 내부 대기열 길이를 추정
+ * - 대기열이 짧으면 한도를 늘리고, 길어지거나 요청이 실패하면 한도를 줄임
+ * - 기준 RTT가 고착되지 않도록 일정 샘플마다 재측정
+ */
+public class VegasConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final int PROBE_INTERVAL = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private long rttNoLoadNanos;
+    private volatile long lastRttNanos;
+    private int samplesUntilProbe = nextProbeInterval();
+
+    public VegasConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 한도 이내라면 슬롯을 점유하고 true를 반환합니다.
+     * true를 받은 호출자는 반드시 {@link #release(long, boolean)}를 호출해야 합니다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 완료된 요청의 응답 시간을 반영합니다.
+     *
+     * @param dropped 과부하로 인한 실패(타임아웃 등) 여부 - 한도를 즉시 줄임
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inflight.getAndDecrement();
+        if (rttNanos > 0) {
+            update(rttNanos, current, dropped);
+        }
+    }
+
+    /** 슬롯만 반납 (클라이언트 취소 등 RTT가 의미 없는 경우) */
+    public void releaseWithoutSample() {
+        inflight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, int inflightAtSample, boolean dropped) {
+        lastRttNanos = rttNanos;
+
+        if (--samplesUntilProbe <= 0) {
+            samplesUntilProbe = nextProbeInterval();
+            rttNoLoadNanos = 0;
+        }
+        if (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos) {
+            rttNoLoadNanos = rttNanos;
+            return;
+        }
+
+        double current = limit;
+        double log = Math.max(1, Math.log10(current));
+        double newLimit;
+        if (dropped) {
+            newLimit = current - log;
+        } else if (inflightAtSample * 2 < current) {
+            // 한도의 절반도 쓰지 않는 상태에서는 RTT만으로 한도를 키우지 않음
+            return;
+        } else {
+            double queueSize = Math.ceil(current * (1 - (double) rttNoLoadNanos / rttNanos));
+            if (queueSize <= log) {
+                newLimit = current + 6 * log;
+            } else if (queueSize < 3 * log) {
+                newLimit = current + log;
+            } else if (queueSize > 6 * log) {
+                newLimit = current - log;
+            } else {
+                return;
+            }
+        }
+
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (1 - SMOOTHING) * current + SMOOTHING * newLimit;
+    }
+
+    /**
+     * 거절된 클라이언트가 재시도하기까지 기다릴 시간(ms)
+     * 현재 대기열이 한 번 비워지는 데 걸리는 시간을 근사치로 사용
+     */
+    public long retryAfterMillis() {
+        long rttMillis = Math.max(1, lastRttNanos / 1_000_000);
+        double backlog = Math.max(1, inflight.get() / Math.max(1, limit));
+        return Math.max(10, (long) (rttMillis * backlog));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private static int nextProbeInterval() {
+        return PROBE_INTERVAL + ThreadLocalRandom.current().nextInt(PROBE_INTERVAL);
+    }
+}
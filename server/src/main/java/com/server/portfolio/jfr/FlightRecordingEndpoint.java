@@ -0,0 +1,116 @@
+package com.server.portfolio.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 운영 중 JFR 녹화 (/actuator/jfr?seconds=60&settings=profile)
+ * - 요청 시간 동안 녹화한 뒤 .jfr 파일을 응답으로 스트리밍 (에이전트 연결/재시작 불필요)
+ * - JDK 기본 설정(default/profile)에 예매 도메인 이벤트를 추가로 활성화
+ * - 동시에 하나의 녹화만 허용, ADMIN 권한 필요 (SecurityConfig)
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private static final int DEFAULT_SECONDS = 30;
+    private static final int MAX_SECONDS = 300;
+    private static final List<Class<? extends jdk.jfr.Event>> TICKET_EVENTS = List.of(
+            QueueAdmitEvent.class,
+            SeatLockEvent.class,
+            ReservationTransactionEvent.class,
+            SeatStateChangeEvent.class,
+            PaymentConfirmEvent.class);
+
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> record(@Nullable Integer seconds, @Nullable String settings) {
+        int duration = seconds != null ? Math.max(1, Math.min(seconds, MAX_SECONDS)) : DEFAULT_SECONDS;
+        String configName = "default".equals(settings) ? "default" : "profile";
+
+        if (!recording.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        Path file = null;
+        try (Recording jfr = new Recording(Configuration.getConfiguration(configName))) {
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            file = Files.createTempFile("ticket-server-" + timestamp + "-", ".jfr");
+
+            jfr.setName("on-demand-" + timestamp);
+            for (Class<? extends jdk.jfr.Event> eventType : TICKET_EVENTS) {
+                jfr.enable(eventType);
+            }
+            log.info("Starting JFR recording ({}s, settings={})", duration, configName);
+            jfr.start();
+            Thread.sleep(Duration.ofSeconds(duration));
+            jfr.stop();
+            jfr.dump(file);
+
+            return new WebEndpointResponse<>(new TemporaryFileResource(file), WebEndpointResponse.STATUS_OK);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteQuietly(file);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        } catch (Exception e) {
+            log.error("JFR recording failed", e);
+            deleteQuietly(file);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete JFR file {}", file);
+        }
+    }
+
+    // 응답 전송이 끝나면 임시 파일 삭제
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deleteQuietly(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
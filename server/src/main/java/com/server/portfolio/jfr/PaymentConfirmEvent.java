@@ -0,0 +1,30 @@
+package com.server.portfolio.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 이벤트 구간 = completeReservation 처리 전체
+ */
+@Name("ticket.PaymentConfirm")
+@Label("Payment Confirm")
+@Description("결제 완료 후 예약 확정")
+@Category({"Ticket", "Payment"})
+@StackTrace(false)
+public class PaymentConfirmEvent extends jdk.jfr.Event {
+
+    @Label("Concert Option Id")
+    public long concertOptionId;
+
+    @Label("Seats")
+    public int seatCount;
+
+    @Label("Payment Id")
+    public String paymentId;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,28 @@
+package com.server.portfolio.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("ticket.QueueAdmit")
+@Label("Queue Admit")
+@Description("대기열 토큰 발급 및 입장 판정")
+@Category({"Ticket", "Queue"})
+@StackTrace(false)
+public class QueueAdmitEvent extends jdk.jfr.Event {
+
+    @Label("Concert Option Id")
+    public long concertOptionId;
+
+    @Label("Seats")
+    @Description("입장 판정 시점에는 좌석을 선택하지 않으므로 0")
+    public int seatCount;
+
+    @Label("Wait Position")
+    public long waitPosition;
+
+    @Label("Admitted")
+    public boolean admitted;
+}
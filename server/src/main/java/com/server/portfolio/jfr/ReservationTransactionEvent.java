@@ -0,0 +1,36 @@
+package com.server.portfolio.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 이벤트 구간 = 예약/확정/환불 DB 트랜잭션 (커밋 포함)
+ */
+@Name("ticket.ReservationTransaction")
+@Label("Reservation Transaction")
+@Description("예약 관련 DB 트랜잭션")
+@Category({"Ticket", "Database"})
+@StackTrace(false)
+public class ReservationTransactionEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("reserve / complete / refund")
+    public String operation;
+
+    @Label("Concert Option Id")
+    public long concertOptionId;
+
+    @Label("Seats")
+    public int seatCount;
+
+    @Label("Success")
+    public boolean success;
+
+    public ReservationTransactionEvent(String operation, int seatCount) {
+        this.operation = operation;
+        this.seatCount = seatCount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.server.portfolio.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 이벤트 구간 = 좌석 락 획득 대기 시간
+ */
+@Name("ticket.SeatLock")
+@Label("Seat Lock")
+@Description("좌석 분산 락 획득 시도")
+@Category({"Ticket", "Reservation"})
+@StackTrace(false)
+public class SeatLockEvent extends jdk.jfr.Event {
+
+    @Label("Concert Option Id")
+    public long concertOptionId;
+
+    @Label("Seats")
+    @Description("요청에 포함된 좌석 수")
+    public int seatCount;
+
+    @Label("Seat Id")
+    public long seatId;
+
+    @Label("Acquired")
+    public boolean acquired;
+}
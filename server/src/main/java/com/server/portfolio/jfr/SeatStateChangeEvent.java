@@ -0,0 +1,43 @@
+package com.server.portfolio.jfr;
+
+import com.server.portfolio.domain.Seat;
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("ticket.SeatStateChange")
+@Label("Seat State Change")
+@Category({"Ticket", "Reservation"})
+@StackTrace(false)
+public class SeatStateChangeEvent extends jdk.jfr.Event {
+
+    @Label("Concert Option Id")
+    public long concertOptionId;
+
+    @Label("Seats")
+    public int seatCount;
+
+    @Label("Seat Id")
+    public long seatId;
+
+    @Label("From")
+    public String fromStatus;
+
+    @Label("To")
+    public String toStatus;
+
+    // 녹화 중이 아닐 때는 필드 채우기(지연 로딩 프록시 접근 포함)를 생략
+    public static void emit(Seat seat, Seat.SeatStatus from) {
+        SeatStateChangeEvent event = new SeatStateChangeEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.concertOptionId = seat.getConcertOption().getId();
+        event.seatCount = 1;
+        event.seatId = seat.getId() != null ? seat.getId() : 0;
+        event.fromStatus = from != null ? from.name() : null;
+        event.toStatus = seat.getStatus().name();
+        event.commit();
+    }
+}
@@ -0,0 +1,141 @@
+package com.server.portfolio.metrics;
+
+import com.server.portfolio.metrics.SeatContentionTracker.HotSeat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회차 하나의 좌석 락 경합 집계
+ * - Count-Min Sketch(depth x width)로 좌석별 경합 횟수, 획득 실패 횟수, 대기 시간 합을 고정 메모리로 근사
+ * - 경합 횟수 추정치 상위 K개 좌석만 후보로 유지하며, 후보 좌석은 경합 사용자 수를 함께 기록
+ * 추정치는 실제보다 크거나 같음 (해시 충돌 시 과대 추정)
+ */
+class SeatContentionSketch {
+
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 2048; // 2의 거듭제곱 (비트 마스크로 인덱싱)
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+    private static final int MAX_USERS_PER_SEAT = 256;
+
+    private final int topK;
+    private final AtomicLongArray contended = new AtomicLongArray(DEPTH * WIDTH);
+    private final AtomicLongArray failures = new AtomicLongArray(DEPTH * WIDTH);
+    private final AtomicLongArray waitMicros = new AtomicLongArray(DEPTH * WIDTH);
+
+    private final AtomicLong totalContended = new AtomicLong();
+    private final AtomicLong totalFailures = new AtomicLong();
+    private volatile long lastUpdatedMillis = System.currentTimeMillis();
+
+    // 상위 K 후보 (seatId -> 경합 사용자). 갱신은 경합 발생 시에만 일어나므로 동기화 비용은 무시 가능
+    private final Map<Long, Set<Long>> hotSeats = new HashMap<>();
+
+    SeatContentionSketch(int topK) {
+        this.topK = topK;
+    }
+
+    void record(long seatId, long userId, long waitNanos, boolean acquired) {
+        long micros = waitNanos / 1_000;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(row, seatId);
+            contended.incrementAndGet(index);
+            waitMicros.addAndGet(index, micros);
+            if (!acquired) {
+                failures.incrementAndGet(index);
+            }
+        }
+        totalContended.incrementAndGet();
+        if (!acquired) {
+            totalFailures.incrementAndGet();
+        }
+        lastUpdatedMillis = System.currentTimeMillis();
+
+        long estimate = estimate(contended, seatId);
+        synchronized (hotSeats) {
+            Set<Long> users = hotSeats.get(seatId);
+            if (users == null) {
+                if (hotSeats.size() >= topK) {
+                    Long coldest = coldestCandidate();
+                    if (estimate(contended, coldest) >= estimate) {
+                        return;
+                    }
+                    hotSeats.remove(coldest);
+                }
+                users = new HashSet<>();
+                hotSeats.put(seatId, users);
+            }
+            if (users.size() < MAX_USERS_PER_SEAT) {
+                users.add(userId);
+            }
+        }
+    }
+
+    /**
+     * 경합 횟수 추정치 내림차순으로 상위 좌석을 반환합니다.
+     */
+    List<HotSeat> hotSeats(int limit) {
+        Map<Long, Integer> candidates = new HashMap<>();
+        synchronized (hotSeats) {
+            hotSeats.forEach((seatId, users) -> candidates.put(seatId, users.size()));
+        }
+
+        List<HotSeat> result = new ArrayList<>(candidates.size());
+        candidates.forEach((seatId, users) -> result.add(new HotSeat(
+                seatId,
+                estimate(contended, seatId),
+                estimate(failures, seatId),
+                estimate(waitMicros, seatId),
+                users,
+                users >= MAX_USERS_PER_SEAT)));
+        result.sort(Comparator.comparingLong(HotSeat::contended).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    long totalContended() {
+        return totalContended.get();
+    }
+
+    long totalFailures() {
+        return totalFailures.get();
+    }
+
+    long lastUpdatedMillis() {
+        return lastUpdatedMillis;
+    }
+
+    private Long coldestCandidate() {
+        Long coldest = null;
+        long min = Long.MAX_VALUE;
+        for (Long seatId : hotSeats.keySet()) {
+            long value = estimate(contended, seatId);
+            if (value < min) {
+                min = value;
+                coldest = seatId;
+            }
+        }
+        return coldest;
+    }
+
+    private static long estimate(AtomicLongArray counters, long seatId) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counters.get(index(row, seatId)));
+        }
+        return min;
+    }
+
+    private static int index(int row, long seatId) {
+        long h = (seatId ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 31;
+        return row * WIDTH + (int) (h & (WIDTH - 1));
+    }
+}
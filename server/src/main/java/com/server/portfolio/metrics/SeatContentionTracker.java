@@ -0,0 +1,86 @@
+package com.server.portfolio.metrics;
+
+import com.server.portfolio.service.SeatOptionResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 락 경합 집계 (회차별 Count-Min Sketch + 상위 K 좌석)
+ * - 대기 없이 바로 획득한 락은 기록하지 않음 (min-wait-ms 이상 대기했거나 획득에 실패한 경우만 경합으로 간주)
+ * - 회차 수가 상한을 넘으면 가장 오래 갱신되지 않은 회차를 버림
+ * 관리자 히트맵 조회: GET /api/admin/seat-contention/{concertOptionId}
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatContentionTracker {
+
+    private static final int MAX_TRACKED_OPTIONS = 64;
+
+    private final SeatOptionResolver seatOptionResolver;
+    private final Map<Long, SeatContentionSketch> sketches = new ConcurrentHashMap<>();
+
+    @Value("${ticket.seat-contention.min-wait-ms:20}")
+    private long minWaitMs;
+
+    @Value("${ticket.seat-contention.top-k:100}")
+    private int topK;
+
+    public void record(long seatId, long userId, long waitNanos, boolean acquired) {
+        if (acquired && waitNanos < TimeUnit.MILLISECONDS.toNanos(minWaitMs)) {
+            return;
+        }
+        long optionId = seatOptionResolver.concertOptionIdOf(seatId);
+        if (optionId == 0) {
+            return;
+        }
+        sketchOf(optionId).record(seatId, userId, waitNanos, acquired);
+    }
+
+    /**
+     * @return 기록이 없으면 null
+     */
+    public Snapshot snapshot(long concertOptionId, int limit) {
+        SeatContentionSketch sketch = sketches.get(concertOptionId);
+        if (sketch == null) {
+            return null;
+        }
+        return new Snapshot(concertOptionId, sketch.totalContended(), sketch.totalFailures(),
+                sketch.hotSeats(limit));
+    }
+
+    public void reset(long concertOptionId) {
+        sketches.remove(concertOptionId);
+    }
+
+    private SeatContentionSketch sketchOf(long optionId) {
+        SeatContentionSketch sketch = sketches.get(optionId);
+        if (sketch != null) {
+            return sketch;
+        }
+        if (sketches.size() >= MAX_TRACKED_OPTIONS) {
+            sketches.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().lastUpdatedMillis()))
+                    .ifPresent(oldest -> sketches.remove(oldest.getKey()));
+        }
+        return sketches.computeIfAbsent(optionId, id -> new SeatContentionSketch(topK));
+    }
+
+    public record Snapshot(long concertOptionId, long totalContended, long totalFailures, List<HotSeat> seats) {
+    }
+
+    /**
+     * 추정치는 Count-Min Sketch 특성상 실제보다 크거나 같음
+     *
+     * @param conflictingUsers 경합을 겪은 서로 다른 사용자 수 (usersCapped이면 하한값)
+     */
+    public record HotSeat(long seatId, long contended, long failures, long waitMicros, int conflictingUsers,
+            boolean usersCapped) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.server.portfolio.metrics;
+
+import com.server.portfolio.repository.ConcertOptionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예매 도메인 지표
+ * - ticket.seat.lock.acquire / hold: 좌석 분산 락 대기/점유 시간
+ * - ticket.queue.waiting / active: 공연별 대기열, 입장 인원 (스크레이프 시점에 Redis 조회)
+ * - ticket.queue.admission: 공연별 입장 판정 결과
+ * 공연별 지표는 판매 중인 회차(공개 상태, 공연 일시 이전)에만 등록합니다.
+ * - 요청의 concertId는 클라이언트 값이므로, 주기적으로 DB에서 읽은 판매 중 회차 목록에 있는 ID만 태그로 사용
+ * - 판매가 끝난 회차의 지표는 다음 갱신 때 레지스트리에서 제거 → 태그 수와 스크레이프당 Redis 조회 수가 판매 중 회차 수로 제한
+ * gRPC, Hikari, Redis 명령, Repository 호출 시간은 각 라이브러리의 기본 지표를 사용 (application.yml의 SLO 설정 참고)
+ */
+@Slf4j
+@Component
+public class TicketMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final ConcertOptionRepository concertOptionRepository;
+
+    private final Timer lockAcquired;
+    private final Timer lockTimedOut;
+    private final Timer lockHold;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ticket-metrics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 판매 중인 회차 ID (주기적으로 교체)
+    private volatile Set<Long> onSaleConcerts = Set.of();
+
+    // 지표를 등록한 공연 ID → 등록한 미터 (판매 종료 시 제거)
+    private final Map<Long, List<Meter>> trackedConcerts = new ConcurrentHashMap<>();
+
+    @Value("${ticket.metrics.on-sale-refresh-seconds:30}")
+    private long onSaleRefreshSeconds;
+
+    public TicketMetrics(MeterRegistry meterRegistry, StringRedisTemplate redisTemplate,
+            ConcertOptionRepository concertOptionRepository) {
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.concertOptionRepository = concertOptionRepository;
+        this.lockAcquired = lockAcquireTimer("acquired");
+        this.lockTimedOut = lockAcquireTimer("timeout");
+        this.lockHold = Timer.builder("ticket.seat.lock.hold")
+                .description("좌석 락 점유 시간")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refreshOnSale, 0, onSaleRefreshSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public void recordLockAcquire(long nanos, boolean acquired) {
+        (acquired ? lockAcquired : lockTimedOut).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(long nanos) {
+        lockHold.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param result admitted(입장 허용) / waiting(대기) / bounced(좌석 조회 시 대기열로 되돌림)
+     */
+    public void recordAdmission(long concertId, String result) {
+        List<Meter> meters = track(concertId);
+        if (meters == null) {
+            return;
+        }
+        Counter counter = Counter.builder("ticket.queue.admission")
+                .description("대기열 입장 판정 횟수")
+                .tag("concert", Long.toString(concertId))
+                .tag("result", result)
+                .register(meterRegistry);
+        if (!meters.contains(counter)) {
+            meters.add(counter);
+        }
+        counter.increment();
+    }
+
+    public void trackQueue(long concertId) {
+        track(concertId);
+    }
+
+    // 판매 중이 아닌 회차는 null
+    private List<Meter> track(long concertId) {
+        if (!onSaleConcerts.contains(concertId)) {
+            return null;
+        }
+        return trackedConcerts.computeIfAbsent(concertId, id -> {
+            String concert = Long.toString(id);
+            List<Meter> meters = new CopyOnWriteArrayList<>();
+            meters.add(Gauge.builder("ticket.queue.waiting", this, m -> m.zCard("concert_queue:" + id))
+                    .description("대기열 인원")
+                    .tag("concert", concert)
+                    .register(meterRegistry));
+            meters.add(Gauge.builder("ticket.queue.active", this, m -> m.zCard("active_users:" + id))
+                    .description("좌석 선택 화면 입장 인원")
+                    .tag("concert", concert)
+                    .register(meterRegistry));
+            return meters;
+        });
+    }
+
+    private void refreshOnSale() {
+        Set<Long> current;
+        try {
+            current = Set.copyOf(concertOptionRepository.findOnSaleIds(LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("Failed to refresh on-sale concerts for metrics: {}", e.getMessage());
+            return;
+        }
+        onSaleConcerts = current;
+        trackedConcerts.entrySet().removeIf(entry -> {
+            if (current.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().forEach(meterRegistry::remove);
+            log.debug("Removed queue metrics for concert {} (no longer on sale)", entry.getKey());
+            return true;
+        });
+    }
+
+    private double zCard(String key) {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(key);
+            return size != null ? size : 0;
+        } catch (Exception e) {
+            log.debug("Failed to read queue size for {}: {}", key, e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    private Timer lockAcquireTimer(String outcome) {
+        return Timer.builder("ticket.seat.lock.acquire")
+                .description("좌석 락 획득 대기 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
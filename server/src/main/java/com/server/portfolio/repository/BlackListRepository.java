@@ -2,7 +2,16 @@ package com.server.portfolio.repository;
 
 import com.server.portfolio.domain.BlackList;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface BlackListRepository extends JpaRepository<BlackList, Long> {
     boolean existsByIpAddress(String ipAddress);
+
+    // 차단 목록 메모리 적재용 (차단 유지 기간 내 항목만)
+    @Query("SELECT DISTINCT b.ipAddress FROM BlackList b WHERE b.blockedAt > :since")
+    List<String> findIpAddressesBlockedSince(@Param("since") LocalDateTime since);
 }
@@ -2,6 +2,22 @@ package com.server.portfolio.repository;
 
 import com.server.portfolio.domain.ConcertOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ConcertOptionRepository extends JpaRepository<ConcertOption, Long> {
+
+    // 좌석 생성이 끝난(또는 기존 방식으로 등록된) 회차만 조회
+    @Query("SELECT o FROM ConcertOption o WHERE o.provisionStatus IS NULL OR o.provisionStatus = 'OPEN'")
+    List<ConcertOption> findVisible();
+
+    // 판매 중인 회차 ID (공개 상태이고 공연 일시가 지나지 않은 회차)
+    @Query("SELECT o.id FROM ConcertOption o WHERE (o.provisionStatus IS NULL OR o.provisionStatus = 'OPEN')"
+            + " AND o.concertDate > :now")
+    List<Long> findOnSaleIds(@Param("now") LocalDateTime now);
+
+    List<ConcertOption> findByProvisionStatus(ConcertOption.ProvisionStatus provisionStatus);
 }
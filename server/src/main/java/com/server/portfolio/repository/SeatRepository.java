@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface SeatRepository extends JpaRepository<Seat, Long> {
 
@@ -14,6 +15,17 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
     @Query("SELECT s FROM Seat s WHERE s.concertOption.id = :concertOptionId AND s.status = 'AVAILABLE'")
     List<Seat> findAvailableSeats(@Param("concertOptionId") Long concertOptionId);
 
+    // 청크 단위 좌석 생성 재개 지점 확인용 (좌석 번호는 1부터 연속으로 생성됨)
+    @Query("SELECT COALESCE(MAX(s.seatNumber), 0) FROM Seat s WHERE s.concertOption.id = :concertOptionId")
+    int findMaxSeatNumber(@Param("concertOptionId") Long concertOptionId);
+
+    // 좌석이 속한 회차 ID (좌석 엔티티를 로딩하지 않음)
+    @Query("SELECT s.concertOption.id FROM Seat s WHERE s.id = :seatId")
+    Long findConcertOptionIdById(@Param("seatId") Long seatId);
+
+    // 배치도 기반 회차에서 이미 실체화된 좌석 행 조회
+    Optional<Seat> findByConcertOptionIdAndSeatNumber(Long concertOptionId, Integer seatNumber);
+
     // 좌석 예약을 위해 조회할 때 락(Lock)을 걸 수도 있음 (선택 사항)
     // 여기서는 낙관적 락(@Version)을 쓰므로 별도의 비관적 락(@Lock)은 일단 생략합니다.
 }
\ No newline at end of file
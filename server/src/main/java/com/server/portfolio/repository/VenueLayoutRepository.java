@@ -0,0 +1,7 @@
+package com.server.portfolio.repository;
+
+import com.server.portfolio.domain.VenueLayout;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface VenueLayoutRepository extends JpaRepository<VenueLayout, Long> {
+}
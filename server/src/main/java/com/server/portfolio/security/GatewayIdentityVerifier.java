@@ -0,0 +1,52 @@
+package com.server.portfolio.security;
+
+import com.ticket.portfolio.identity.IdentityHeaders;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게이트웨이가 JWT 검증 후 서명해 보낸 식별 헤더(X-User-Id/X-Roles) 확인
+ * HTTP(JwtAuthenticationFilter)와 gRPC(GrpcAuthenticationInterceptor)가 함께 사용하며,
+ * 서명이 맞으면 JWT 파싱 없이 인증 정보를 만듭니다.
+ */
+@Slf4j
+@Component
+public class GatewayIdentityVerifier {
+
+    @Value("${ticket.identity.secret}")
+    private String identitySecret;
+
+    @Value("${ticket.identity.max-skew-seconds:60}")
+    private long maxSkewSeconds;
+
+    /**
+     * @return 식별 헤더가 없거나 서명이 맞지 않으면 null
+     */
+    public Authentication resolve(String userId, String roles, String timestamp, String signature) {
+        if (!StringUtils.hasText(userId)) {
+            return null;
+        }
+        if (!IdentityHeaders.verify(identitySecret, userId, roles, timestamp, signature,
+                System.currentTimeMillis() / 1000, maxSkewSeconds)) {
+            log.debug("Ignoring identity headers with invalid signature for {}", userId);
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = roles.isEmpty()
+                ? List.of()
+                : Arrays.stream(roles.split(","))
+                        .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                        .toList();
+        return new UsernamePasswordAuthenticationToken(new User(userId, "", authorities), null, authorities);
+    }
+}
@@ -0,0 +1,65 @@
+package com.server.portfolio.security;
+
+import com.ticket.portfolio.identity.IdentityHeaders;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+
+/**
+ * gRPC 인증
+ * - 게이트웨이를 거친 호출: 게이트웨이가 서명한 x-user-id/x-roles 메타데이터를 서명만 확인하고 사용
+ * - 직접 호출: Authorization 메타데이터(Bearer 토큰) 검증
+ * - 유효한 토큰이면 인증 정보를 Context에 넣어 서비스 메서드에서 AUTHENTICATION.get()으로 조회
+ * - 토큰이 없거나 유효하지 않으면 인증 정보 없이 진행 (로그인, 대기열 등 공개 RPC 유지)
+ *   인증이 필요한 RPC는 각 메서드에서 AUTHENTICATION이 null인지 확인
+ */
+@GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_SECURITY_AUTHENTICATION)
+@RequiredArgsConstructor
+public class GrpcAuthenticationInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> AUTHORIZATION_KEY =
+            Metadata.Key.of(JwtAuthenticationFilter.AUTHORIZATION_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+    public static final Context.Key<Authentication> AUTHENTICATION = Context.key("authentication");
+
+    private static final Metadata.Key<String> USER_ID_KEY = asciiKey(IdentityHeaders.USER_ID);
+    private static final Metadata.Key<String> ROLES_KEY = asciiKey(IdentityHeaders.ROLES);
+    private static final Metadata.Key<String> TIMESTAMP_KEY = asciiKey(IdentityHeaders.TIMESTAMP);
+    private static final Metadata.Key<String> SIGNATURE_KEY = asciiKey(IdentityHeaders.SIGNATURE);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        Authentication authentication = gatewayIdentityVerifier.resolve(headers.get(USER_ID_KEY),
+                headers.get(ROLES_KEY), headers.get(TIMESTAMP_KEY), headers.get(SIGNATURE_KEY));
+        if (authentication == null) {
+            String bearer = headers.get(AUTHORIZATION_KEY);
+            if (bearer == null || !bearer.startsWith(BEARER_PREFIX)) {
+                return next.startCall(call, headers);
+            }
+            authentication = jwtTokenProvider.resolveAuthentication(bearer.substring(BEARER_PREFIX.length()));
+        }
+        if (authentication == null) {
+            return next.startCall(call, headers);
+        }
+        Context context = Context.current().withValue(AUTHENTICATION, authentication);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    private static Metadata.Key<String> asciiKey(String name) {
+        return Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER);
+    }
+}
@@ -0,0 +1,62 @@
+package com.server.portfolio.security;
+
+import com.ticket.portfolio.identity.ForwardedFor;
+import com.ticket.portfolio.identity.InternalCallHeaders;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 IP 차단/빈도 제한 (JWT 검증, JPA 접근 이전에 실행)
+ * 게이트웨이를 거친 요청은 게이트웨이가 서명한 사용자 IP(InternalCallHeaders)로 판단
+ * (게이트웨이 자신의 주소로 모든 사용자 요청이 합산되어 차단되지 않도록)
+ * 서명이 없는 요청의 X-Forwarded-For는 앞단 프록시가 있을 때만 신뢰 (ticket.abuse.trust-forwarded-for),
+ * 그때도 신뢰하는 프록시 수(trusted-proxy-hops)만큼 오른쪽에서 센 값만 사용 (ForwardedFor)
+ */
+@RequiredArgsConstructor
+public class IpAbuseFilter extends OncePerRequestFilter {
+
+    private final IpAbuseGuard ipAbuseGuard;
+    private final boolean trustForwardedFor;
+    private final int trustedProxyHops;
+    private final String identitySecret;
+    private final long maxSkewSeconds;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientIp = clientIp(request);
+        // 사용자 IP 없이 서명된 호출은 서비스 간 호출로 보고 제한하지 않음
+        if (clientIp != null && !ipAbuseGuard.allow(clientIp)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "요청이 차단되었습니다.");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Prometheus 스크레이프, 헬스 체크 제외
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        String signature = request.getHeader(InternalCallHeaders.SIGNATURE.originalName());
+        if (signature != null) {
+            String clientIp = request.getHeader(InternalCallHeaders.CLIENT_IP.originalName());
+            String service = request.getHeader(InternalCallHeaders.SERVICE.originalName());
+            String timestamp = request.getHeader(InternalCallHeaders.TIMESTAMP.originalName());
+            if (InternalCallHeaders.verify(identitySecret, service, clientIp, timestamp, signature,
+                    System.currentTimeMillis() / 1000, maxSkewSeconds)) {
+                return clientIp;
+            }
+        }
+        return ForwardedFor.clientIp(request.getHeader("X-Forwarded-For"), request.getRemoteAddr(),
+                trustForwardedFor ? trustedProxyHops : 0);
+    }
+}
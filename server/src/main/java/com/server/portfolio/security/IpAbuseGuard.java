@@ -0,0 +1,96 @@
+package com.server.portfolio.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * IP별 접속 빈도 제한 (봇/매크로 차단)
+ * 1. 메모리 차단 목록(IpBlocklist) 확인 - 차단된 IP는 Redis/DB 접근 없이 거절
+ * 2. Redis 슬라이딩 윈도우 카운터(이전 윈도우 가중치 + 현재 윈도우)로 window-ms 내 요청 수 추정
+ * 3. limit 초과 시 즉시 차단 목록에 등록 (BlackList 기록)
+ * Redis 장애 시에는 차단 목록 확인만 하고 통과시킴
+ */
+@Slf4j
+@Component
+public class IpAbuseGuard {
+
+    // KEYS[1]: 현재 윈도우, KEYS[2]: 이전 윈도우 / ARGV[1]: 윈도우 길이(ms), ARGV[2]: 이전 윈도우 가중치(‰)
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('INCR', KEYS[1])
+            if current == 1 then
+              redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[1]) * 2)
+            end
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            return current + math.floor(previous * tonumber(ARGV[2]) / 1000)
+            """, Long.class);
+
+    private final IpBlocklist ipBlocklist;
+    private final StringRedisTemplate redisTemplate;
+    private final Counter rejectedBlocked;
+    private final Counter rejectedRateLimit;
+
+    @Value("${ticket.abuse.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ticket.abuse.limit:50}")
+    private long limit;
+
+    @Value("${ticket.abuse.window-ms:1000}")
+    private long windowMs;
+
+    public IpAbuseGuard(IpBlocklist ipBlocklist, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.ipBlocklist = ipBlocklist;
+        this.redisTemplate = redisTemplate;
+        this.rejectedBlocked = rejectedCounter(meterRegistry, "blocklist");
+        this.rejectedRateLimit = rejectedCounter(meterRegistry, "rate_limit");
+    }
+
+    /**
+     * @return 요청을 처리해도 되면 true
+     */
+    public boolean allow(String ip) {
+        if (!enabled || ip == null || ip.isEmpty()) {
+            return true;
+        }
+        if (ipBlocklist.isBlocked(ip)) {
+            rejectedBlocked.increment();
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        long window = now / windowMs;
+        long previousWeight = (windowMs - now % windowMs) * 1000 / windowMs;
+        Long count;
+        try {
+            // 해시 태그로 같은 IP의 키를 같은 슬롯에 배치
+            count = redisTemplate.execute(SLIDING_WINDOW_SCRIPT,
+                    List.of("abuse:{" + ip + "}:" + window, "abuse:{" + ip + "}:" + (window - 1)),
+                    Long.toString(windowMs), Long.toString(previousWeight));
+        } catch (Exception e) {
+            log.debug("IP rate limit check failed for {}: {}", ip, e.getMessage());
+            return true;
+        }
+
+        if (count != null && count > limit) {
+            rejectedRateLimit.increment();
+            ipBlocklist.block(ip, windowMs + "ms 내 " + count + "회 접속 시도");
+            return false;
+        }
+        return true;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("ticket.abuse.rejected")
+                .description("IP 차단/빈도 제한으로 거절된 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
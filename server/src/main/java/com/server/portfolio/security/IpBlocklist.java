@@ -0,0 +1,136 @@
+package com.server.portfolio.security;
+
+import com.server.portfolio.domain.BlackList;
+import com.server.portfolio.repository.BlackListRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 차단 IP 목록 (메모리)
+ * - 요청마다 DB를 조회하지 않도록 Bloom Filter + 정확한 집합으로 판별
+ * - 주기적으로 DB(BlackList)와 Redis(blacklist:ips, 다른 인스턴스가 방금 차단한 IP)에서 다시 적재
+ * - 차단 유지 기간(block-minutes)이 지난 항목은 적재하지 않음 (0 이하이면 영구 차단)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IpBlocklist {
+
+    private static final String REDIS_KEY = "blacklist:ips";
+
+    private final BlackListRepository blackListRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ip-blocklist");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot = Snapshot.of(Set.of());
+
+    @Value("${ticket.abuse.block-minutes:60}")
+    private long blockMinutes;
+
+    @Value("${ticket.abuse.refresh-seconds:10}")
+    private long refreshSeconds;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isBlocked(String ip) {
+        Snapshot current = snapshot;
+        return current.bloom().mightContain(ip) && current.ips().contains(ip);
+    }
+
+    /**
+     * 즉시 메모리에 반영하고 Redis(다른 인스턴스 공유)와 DB(영구 기록)에 기록합니다.
+     * DB 저장은 요청 스레드를 막지 않도록 백그라운드에서 처리합니다.
+     */
+    public void block(String ip, String reason) {
+        Snapshot current = snapshot;
+        current.bloom().put(ip);
+        if (!current.ips().add(ip)) {
+            return;
+        }
+        log.warn("Blocking IP {}: {}", ip, reason);
+
+        try {
+            redisTemplate.opsForZSet().add(REDIS_KEY, ip, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("Failed to publish blocked IP {} to Redis: {}", ip, e.getMessage());
+        }
+        scheduler.execute(() -> {
+            try {
+                blackListRepository.save(new BlackList(ip, reason));
+            } catch (Exception e) {
+                log.error("Failed to persist blocked IP {}", ip, e);
+            }
+        });
+    }
+
+    private void refresh() {
+        long sinceMillis = blockMinutes > 0
+                ? System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(blockMinutes)
+                : 0;
+        Set<String> ips = new HashSet<>();
+        try {
+            ips.addAll(blackListRepository.findIpAddressesBlockedSince(
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(sinceMillis), ZoneId.systemDefault())));
+        } catch (Exception e) {
+            // DB 장애 시 기존 목록 유지
+            log.warn("Failed to load blacklist from DB: {}", e.getMessage());
+            return;
+        }
+        try {
+            if (blockMinutes > 0) {
+                redisTemplate.opsForZSet().removeRangeByScore(REDIS_KEY, 0, sinceMillis);
+            }
+            Set<String> recent = redisTemplate.opsForZSet().rangeByScore(REDIS_KEY, sinceMillis, Double.MAX_VALUE);
+            if (recent != null) {
+                ips.addAll(recent);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load blacklist from Redis: {}", e.getMessage());
+        }
+
+        snapshot = Snapshot.of(ips);
+        log.debug("Blocklist refreshed: {} IPs", ips.size());
+    }
+
+    private record Snapshot(IpBloomFilter bloom, Set<String> ips) {
+
+        static Snapshot of(Set<String> ips) {
+            IpBloomFilter bloom = new IpBloomFilter(ips.size() * 2);
+            Set<String> exact = ConcurrentHashMap.newKeySet(ips.size());
+            for (String ip : ips) {
+                bloom.put(ip);
+                exact.add(ip);
+            }
+            return new Snapshot(bloom, exact);
+        }
+    }
+}
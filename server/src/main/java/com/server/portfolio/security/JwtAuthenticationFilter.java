@@ -1,5 +1,6 @@
 package com.server.portfolio.security;
 
+import com.ticket.portfolio.identity.IdentityHeaders;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -13,26 +14,46 @@ import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
 
+/**
+ * 요청 인증
+ * 1. 게이트웨이가 JWT를 검증하고 서명한 식별 헤더(X-User-Id/X-Roles)가 있으면 서명만 확인하고 사용
+ * 2. 없으면(게이트웨이를 거치지 않은 호출) Authorization 헤더의 JWT를 직접 검증
+ */
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     private final JwtTokenProvider jwtTokenProvider;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
         HttpServletRequest httpServletRequest = (HttpServletRequest) request;
-        String jwt = resolveToken(httpServletRequest);
+        Authentication gatewayIdentity = resolveGatewayIdentity(httpServletRequest);
+        if (gatewayIdentity != null) {
+            SecurityContextHolder.getContext().setAuthentication(gatewayIdentity);
+            chain.doFilter(request, response);
+            return;
+        }
 
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        String jwt = resolveToken(httpServletRequest);
+        if (StringUtils.hasText(jwt)) {
+            Authentication authentication = jwtTokenProvider.resolveAuthentication(jwt);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         chain.doFilter(request, response);
     }
 
+    private Authentication resolveGatewayIdentity(HttpServletRequest request) {
+        return gatewayIdentityVerifier.resolve(request.getHeader(IdentityHeaders.USER_ID),
+                request.getHeader(IdentityHeaders.ROLES), request.getHeader(IdentityHeaders.TIMESTAMP),
+                request.getHeader(IdentityHeaders.SIGNATURE));
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -1,5 +1,8 @@
 package com.server.portfolio.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -12,17 +15,33 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * JWT 발급/검증
+ * - 파서는 기동 시 한 번만 생성 (JwtParser는 불변, 스레드 안전)
+ * - 검증된 토큰은 토큰 해시(SHA-256) 기준 Caffeine 캐시(크기 제한, 락 없는 조회)에 보관하여
+ *   같은 토큰의 서명 검증/파싱을 반복하지 않음
+ * - 캐시 항목은 토큰 만료 시각에 함께 만료
+ * - 캐시에는 불변 값(사용자, 권한 목록)만 두고 Authentication은 요청마다 새로 생성
+ *   (호출자가 SecurityContext에 넣은 인증 객체를 다른 요청과 공유하지 않도록)
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private Key key;
+    private JwtParser parser;
+    private Cache<String, CachedIdentity> authenticationCache;
 
     @Value("${jwt.secret:vmfhaltmskdlstkfkdgodyrjsmsepsoftjqtrmthansdurskdlrjqtlsdlqslekdksgrkdhkfy}")
     private String secretKey;
@@ -33,9 +52,35 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration:1209600000}") // 14 days
     private long refreshTokenValidityInMilliseconds;
 
+    @Value("${jwt.cache-size:10000}")
+    private int cacheSize;
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.authenticationCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<String, CachedIdentity>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedIdentity value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedIdentity value, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedIdentity value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String createAccessToken(Authentication authentication) {
@@ -62,26 +107,14 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-
-        User principal = new User(claims.getSubject(), "", authorities);
-
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * 토큰을 한 번만 검증하고 인증 정보를 반환합니다.
+     *
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Authentication resolveAuthentication(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return authenticate(token);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -91,13 +124,68 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    public Authentication getAuthentication(String token) {
+        return authenticate(token);
+    }
+
+    public boolean validateToken(String token) {
+        return resolveAuthentication(token) != null;
     }
 
     public Long getExpiration(String token) {
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody()
-                .getExpiration();
+        Date expiration = parser.parseClaimsJws(token).getBody().getExpiration();
         long now = new Date().getTime();
         return (expiration.getTime() - now);
     }
+
+    private Authentication authenticate(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is empty");
+        }
+        String cacheKey = hash(token);
+        CachedIdentity cached = authenticationCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached.toAuthentication(token);
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        CachedIdentity identity = toIdentity(claims);
+        if (claims.getExpiration() != null) {
+            authenticationCache.put(cacheKey, identity);
+        }
+        return identity.toAuthentication(token);
+    }
+
+    private CachedIdentity toIdentity(Claims claims) {
+        Object auth = claims.get("auth");
+        List<GrantedAuthority> authorities = auth == null || auth.toString().isEmpty()
+                ? List.of()
+                : Arrays.stream(auth.toString().split(","))
+                        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                        .toList();
+        long expiresAtMillis = claims.getExpiration() != null ? claims.getExpiration().getTime() : 0;
+        return new CachedIdentity(claims.getSubject(), authorities, expiresAtMillis);
+    }
+
+    // 캐시에 원문 토큰을 키로 보관하지 않도록 해시 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 검증된 토큰의 불변 정보 (SimpleGrantedAuthority는 불변, 목록은 toList()/List.of()로 수정 불가)
+    private record CachedIdentity(String subject, List<GrantedAuthority> authorities, long expiresAtMillis) {
+
+        Authentication toAuthentication(String token) {
+            User principal = new User(subject, "", authorities);
+            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        }
+    }
 }
@@ -0,0 +1,184 @@
+package com.server.portfolio.service;
+
+import com.server.portfolio.domain.Concert;
+import com.server.portfolio.domain.ConcertOption;
+import com.server.portfolio.repository.ConcertOptionRepository;
+import com.server.portfolio.repository.ConcertRepository;
+import com.server.portfolio.repository.SeatRepository;
+import com.ticket.portfolio.ProvisionConcertRequest;
+import com.ticket.portfolio.ProvisionProgress;
+import com.ticket.portfolio.RegisterConcertRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 대용량 공연 좌석 생성 작업
+ * - 좌석을 청크 단위 multi-row INSERT로 생성하고 청크마다 커밋
+ * - 중단되더라도 마지막으로 커밋된 좌석 번호부터 재개 (서버 기동 시 자동 재개)
+ * - 모든 좌석이 생성된 뒤에만 회차를 OPEN으로 전환하여 목록에 노출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertProvisioningService {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    private static final int MAX_CHUNK_SIZE = 5000; // placeholder 수 제한 (2 * 5000 < 65535)
+    private static final String INSERT_PREFIX = "INSERT INTO seats (concert_option_id, seat_number, status, version) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, 'AVAILABLE', 0)";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ConcertRepository concertRepository;
+    private final ConcertOptionRepository concertOptionRepository;
+    private final SeatRepository seatRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final RedissonClient redissonClient;
+
+    // 좌석 생성은 DB 쓰기 부하가 크므로 동시에 실행되는 작업 수를 제한
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    /**
+     * 신규 등록 또는 재개 요청을 받아 작업을 백그라운드로 실행합니다.
+     * 진행률은 청크가 커밋될 때마다 listener로 전달되며, 마지막 이벤트는 completed=true 입니다.
+     */
+    public void provision(ProvisionConcertRequest request, Consumer<ProvisionProgress> listener) {
+        long optionId = request.getResumeConcertId() > 0
+                ? request.getResumeConcertId()
+                : createProvisioningOption(request.getConcert());
+        int chunkSize = request.getChunkSize() > 0
+                ? Math.min(request.getChunkSize(), MAX_CHUNK_SIZE)
+                : DEFAULT_CHUNK_SIZE;
+
+        executor.submit(() -> runJob(optionId, chunkSize, listener));
+    }
+
+    // 서버가 작업 도중 종료된 경우 기동 시 이어서 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIncompleteJobs() {
+        List<ConcertOption> pending = concertOptionRepository
+                .findByProvisionStatus(ConcertOption.ProvisionStatus.PROVISIONING);
+        for (ConcertOption option : pending) {
+            log.info("Resuming seat provisioning for concert option: {}", option.getId());
+            Long optionId = option.getId();
+            executor.submit(() -> runJob(optionId, DEFAULT_CHUNK_SIZE, progress -> {
+            }));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private long createProvisioningOption(RegisterConcertRequest request) {
+        if (request.getSeatCount() <= 0) {
+            throw new IllegalArgumentException("좌석 수는 1 이상이어야 합니다.");
+        }
+        LocalDateTime concertDate = LocalDateTime.parse(request.getConcertDate(), DATE_FORMATTER);
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Concert concert = Concert.builder()
+                    .title(request.getTitle())
+                    .venue(request.getVenue())
+                    .imageUrl(request.getImageUrl())
+                    .build();
+            concertRepository.save(concert);
+
+            ConcertOption option = new ConcertOption(concert, concertDate, request.getPrice());
+            option.startProvisioning(request.getSeatCount());
+            concertOptionRepository.save(option);
+            return option.getId();
+        });
+    }
+
+    private void runJob(long optionId, int chunkSize, Consumer<ProvisionProgress> listener) {
+        // 여러 서버 인스턴스가 같은 회차를 동시에 재개하지 않도록 보호
+        RLock lock = redissonClient.getLock("provision_lock:" + optionId);
+        if (!lock.tryLock()) {
+            listener.accept(progress(optionId, 0, 0, true, false, "이미 좌석 생성이 진행 중입니다."));
+            return;
+        }
+
+        int inserted = 0;
+        int total = 0;
+        try {
+            ConcertOption option = concertOptionRepository.findById(optionId)
+                    .orElseThrow(() -> new IllegalArgumentException("회차 " + optionId + "이(가) 존재하지 않습니다."));
+            if (option.getProvisionStatus() != ConcertOption.ProvisionStatus.PROVISIONING) {
+                throw new IllegalStateException("회차 " + optionId + "은(는) 좌석 생성 대상이 아닙니다.");
+            }
+
+            total = option.getTotalSeats();
+            inserted = seatRepository.findMaxSeatNumber(optionId);
+            log.info("Provisioning seats for option {}: {}/{} (chunk={})", optionId, inserted, total, chunkSize);
+
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            while (inserted < total) {
+                int from = inserted + 1;
+                int to = Math.min(total, inserted + chunkSize);
+                tx.executeWithoutResult(status -> insertChunk(optionId, from, to));
+                inserted = to;
+                listener.accept(progress(optionId, inserted, total, false, true, "좌석 생성 중"));
+            }
+
+            // 모든 좌석이 커밋된 뒤 단일 UPDATE로 공개 전환
+            tx.executeWithoutResult(status -> concertOptionRepository.findById(optionId).orElseThrow().open());
+
+            log.info("Seat provisioning completed for option {} ({} seats)", optionId, total);
+            listener.accept(progress(optionId, inserted, total, true, true, "성공적으로 등록되었습니다."));
+        } catch (Exception e) {
+            log.error("Seat provisioning failed for option {}", optionId, e);
+            listener.accept(progress(optionId, inserted, total, true, false, "등록 실패: " + e.getMessage()));
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void insertChunk(long optionId, int fromSeatNumber, int toSeatNumber) {
+        int rows = toSeatNumber - fromSeatNumber + 1;
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (INSERT_ROW.length() + 1));
+        sql.append(INSERT_PREFIX);
+
+        Object[] args = new Object[rows * 2];
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(INSERT_ROW);
+            args[i * 2] = optionId;
+            args[i * 2 + 1] = fromSeatNumber + i;
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private ProvisionProgress progress(long optionId, int inserted, int total, boolean completed, boolean success,
+            String message) {
+        return ProvisionProgress.newBuilder()
+                .setConcertId(optionId)
+                .setInsertedSeats(inserted)
+                .setTotalSeats(total)
+                .setCompleted(completed)
+                .setSuccess(success)
+                .setMessage(message)
+                .build();
+    }
+}
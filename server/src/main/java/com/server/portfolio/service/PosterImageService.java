@@ -0,0 +1,485 @@
+package com.server.portfolio.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 공연 포스터 저장소 (content-addressed)
+ * - 업로드 원본을 스트리밍으로 SHA-256 해시하면서 임시 파일에 기록 → {upload-dir}/{hash}/original 로 이동
+ *   같은 내용이 이미 있으면 새로 저장하지 않음 (중복 제거)
+ * - 크기별 변형(thumbnail/card/full)은 요청 스레드가 아닌 전용 실행기에서 생성
+ *   JPEG은 항상, WebP는 ImageIO에 WebP writer가 등록된 경우에만 생성
+ * - 파일 경로가 내용의 해시이므로 한 번 만들어진 파일은 바뀌지 않음 (immutable 캐시 가능)
+ * - 파일 크기가 작아도 디코딩 메모리는 가로x세로에 비례하므로 헤더의 해상도가 max-pixels를 넘으면 거절하고,
+ *   변형 생성 시에는 가장 큰 변형에 필요한 만큼만 줄여서(subsampling) 디코딩
+ * - 원본을 디코딩할 수 없으면(손상, 상한 초과) {hash}/variants.failed 를 남기고 다시 예약하지 않음
+ *   → 매 요청마다 같은 원본을 다시 디코딩하지 않음 (원본만 제공, 재시도하려면 표시 파일 삭제)
+ * 지표: ticket.image.upload(result=stored|deduplicated), ticket.image.variants
+ */
+@Slf4j
+@Service
+public class PosterImageService {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String ORIGINAL = "original";
+    private static final String FAILED_MARKER = "variants.failed";
+    private static final String WEBP_MIME = "image/webp";
+
+    private final Path root;
+    private final Path tempDir;
+    private final ThreadPoolExecutor executor;
+    private final boolean webpSupported;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final Set<String> processing = ConcurrentHashMap.newKeySet();
+
+    private final Counter stored;
+    private final Counter deduplicated;
+    private final Timer variantTimer;
+
+    public PosterImageService(MeterRegistry meterRegistry,
+            @Value("${image.upload-dir:./uploads/images}") String uploadDir,
+            @Value("${image.variants.threads:2}") int threads,
+            @Value("${image.variants.queue-capacity:100}") int queueCapacity,
+            @Value("${image.variants.jpeg-quality:0.82}") float jpegQuality,
+            @Value("${image.max-pixels:40000000}") long maxPixels) throws IOException {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.tempDir = root.resolve(".tmp");
+        Files.createDirectories(tempDir);
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.webpSupported = ImageIO.getImageWritersByMIMEType(WEBP_MIME).hasNext();
+
+        // 이미지 디코딩/리사이즈는 CPU와 메모리를 많이 쓰므로 작은 고정 풀 + 제한된 대기열
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "poster-variants-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.stored = Counter.builder("ticket.image.upload")
+                .description("포스터 업로드 처리 결과")
+                .tag("result", "stored")
+                .register(meterRegistry);
+        this.deduplicated = Counter.builder("ticket.image.upload")
+                .description("포스터 업로드 처리 결과")
+                .tag("result", "deduplicated")
+                .register(meterRegistry);
+        this.variantTimer = Timer.builder("ticket.image.variants")
+                .description("포스터 변형 이미지 생성 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("ticket.image.variants.queue", executor, e -> e.getQueue().size());
+
+        log.info("Poster image store: root={}, threads={}, webp={}", root, threads, webpSupported);
+    }
+
+    /**
+     * 원본을 저장하고 변형 생성을 예약합니다.
+     * @return 내용 해시 (이미지 URL 경로)
+     * @throws IllegalArgumentException 이미지가 아닌 파일, 해상도가 max-pixels를 넘는 이미지
+     */
+    public String store(MultipartFile file) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            Path original = root.resolve(hash).resolve(ORIGINAL);
+            if (Files.exists(original)) {
+                deduplicated.increment();
+                log.info("Poster already stored, reusing: {}", hash);
+            } else {
+                ImageHeader header = readHeader(temp);
+                if (header == null) {
+                    throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+                }
+                if (header.pixels() > maxPixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다. (최대 " + maxPixels + "픽셀)");
+                }
+                Files.createDirectories(original.getParent());
+                moveAtomically(temp, original);
+                stored.increment();
+                log.info("Poster stored: {} ({} bytes)", hash, file.getSize());
+            }
+            scheduleVariants(hash);
+            return hash;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @return 변형 파일 (아직 생성되지 않았거나 없는 해시면 null)
+     */
+    public Path variant(String hash, Variant variant, boolean webp) {
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return null;
+        }
+        Path path = root.resolve(hash).resolve(variant.fileName(webp));
+        if (Files.exists(path)) {
+            return path;
+        }
+        // 서버 재시작 등으로 생성이 누락된 경우 다시 예약
+        if (Files.exists(root.resolve(hash).resolve(ORIGINAL))) {
+            scheduleVariants(hash);
+        }
+        return null;
+    }
+
+    /**
+     * 변형 생성 전 임시로 내려줄 원본
+     */
+    public Path original(String hash) {
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return null;
+        }
+        Path path = root.resolve(hash).resolve(ORIGINAL);
+        return Files.exists(path) ? path : null;
+    }
+
+    /**
+     * 원본은 확장자 없이 저장하므로 헤더로 형식 판별 (예: image/png)
+     */
+    public String originalContentType(Path original) {
+        try {
+            String format = detectFormat(original);
+            return format != null ? "image/" + format : "application/octet-stream";
+        } catch (IOException e) {
+            return "application/octet-stream";
+        }
+    }
+
+    public boolean isWebpSupported() {
+        return webpSupported;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleVariants(String hash) {
+        Path dir = root.resolve(hash);
+        if (Files.exists(dir.resolve(Variant.FULL.fileName(false))) || Files.exists(dir.resolve(FAILED_MARKER))
+                || !processing.add(hash)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    variantTimer.record(() -> generateVariants(dir));
+                } finally {
+                    processing.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 다음 요청 때 다시 시도 (그동안은 원본 제공)
+            processing.remove(hash);
+            log.warn("Poster variant queue full, deferring: {}", hash);
+        }
+    }
+
+    private void generateVariants(Path dir) {
+        BufferedImage source;
+        try {
+            source = decodeForVariants(dir.resolve(ORIGINAL));
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to decode poster original: {}", dir.getFileName(), e);
+            source = null;
+        }
+        if (source == null) {
+            markFailed(dir);
+            return;
+        }
+        try {
+            BufferedImage rgb = toRgb(source);
+            // FULL을 마지막에 기록 → FULL이 있으면 모든 변형이 완료된 것
+            for (Variant variant : new Variant[]{Variant.THUMBNAIL, Variant.CARD, Variant.FULL}) {
+                BufferedImage resized = resize(rgb, variant.maxWidth());
+                if (webpSupported) {
+                    write(resized, dir.resolve(variant.fileName(true)), WEBP_MIME);
+                }
+                write(resized, dir.resolve(variant.fileName(false)), "image/jpeg");
+            }
+            log.info("Poster variants generated: {}", dir.getFileName());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to generate poster variants: {}", dir.getFileName(), e);
+        }
+    }
+
+    // 같은 원본은 다시 시도해도 같은 결과이므로 표시만 남김 (쓰기 실패 등 일시적 오류는 다음 요청 때 재시도)
+    private void markFailed(Path dir) {
+        try {
+            Files.writeString(dir.resolve(FAILED_MARKER), Instant.now().toString());
+        } catch (IOException e) {
+            log.warn("Failed to write variant failure marker: {}", dir.getFileName(), e);
+        }
+    }
+
+    /**
+     * 가장 큰 변형(FULL) 너비의 2배 이상만 남도록 행/열을 건너뛰며 디코딩
+     * (나머지는 resize의 단계적 축소로 부드럽게 맞춤)
+     * @return 읽을 수 없거나 해상도 상한을 넘는 원본이면 null
+     */
+    private BufferedImage decodeForVariants(Path original) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = iis != null ? ImageIO.getImageReaders(iis) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.warn("Unreadable poster image: {}", original.getParent().getFileName());
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                // 상한 도입 전에 저장된 원본
+                if ((long) width * height > maxPixels) {
+                    log.warn("Poster image too large, skipping variants: {} ({}x{})",
+                            original.getParent().getFileName(), width, height);
+                    return null;
+                }
+                int step = Math.max(1, width / (Variant.FULL.maxWidth() * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG은 알파 채널이 없으므로 흰 배경에 합성
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * 비율 유지 축소 (확대하지 않음)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄인 뒤 목표 크기로 맞춤
+     */
+    private static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // 임시 파일에 쓴 뒤 이동 → 읽는 쪽은 완성된 파일만 봄
+    private void write(BufferedImage image, Path target, String mimeType) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(mimeType);
+        if (!writers.hasNext()) {
+            throw new IOException("No ImageIO writer for " + mimeType);
+        }
+        ImageWriter writer = writers.next();
+        Path temp = Files.createTempFile(tempDir, "variant-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp);
+                    ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+                writer.setOutput(ios);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (param.canWriteCompressed()) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    String[] types = param.getCompressionTypes();
+                    if (types != null && types.length > 0 && param.getCompressionType() == null) {
+                        param.setCompressionType(types[0]);
+                    }
+                    param.setCompressionQuality(jpegQuality);
+                }
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            moveAtomically(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 헤더만 읽어 이미지 형식 확인 (전체 디코딩 없음)
+     */
+    private static String detectFormat(Path file) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(file.toFile())) {
+            if (iis == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                return reader.getFormatName().toLowerCase(Locale.ROOT);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 헤더만 읽어 형식과 해상도 확인 (픽셀 데이터는 디코딩하지 않음)
+     * @return 이미지가 아니거나 헤더를 읽을 수 없으면 null
+     */
+    private static ImageHeader readHeader(Path file) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(file.toFile())) {
+            if (iis == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                return new ImageHeader(reader.getFormatName().toLowerCase(Locale.ROOT),
+                        reader.getWidth(0), reader.getHeight(0));
+            } catch (IOException | RuntimeException e) {
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private record ImageHeader(String format, int width, int height) {
+
+        long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (java.nio.file.FileAlreadyExistsException e) {
+            // 같은 내용을 동시에 올린 경우 - 이미 있는 파일 사용
+        } catch (java.nio.file.AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 크기별 변형 (가로 최대 픽셀)
+     */
+    public enum Variant {
+        THUMBNAIL("thumbnail", 160),
+        CARD("card", 480),
+        FULL("full", 1280);
+
+        private final String path;
+        private final int maxWidth;
+
+        Variant(String path, int maxWidth) {
+            this.path = path;
+            this.maxWidth = maxWidth;
+        }
+
+        public String path() {
+            return path;
+        }
+
+        int maxWidth() {
+            return maxWidth;
+        }
+
+        String fileName(boolean webp) {
+            return path + (webp ? ".webp" : ".jpg");
+        }
+
+        public static Variant fromPath(String path) {
+            for (Variant variant : values()) {
+                if (variant.path.equals(path)) {
+                    return variant;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.server.portfolio.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열 부하 테스트용 가상 유저 주입 (DebugFillQueue)
+ * - concert_queue / active_users ZSET에 가상 유저를 ZADD 배치 + 파이프라이닝으로 삽입
+ * - active 가상 유저는 getAvailableSeats의 5분 만료 정리에 걸리지 않도록 주기적으로 점수 갱신
+ */
+@Slf4j
+@Service
+public class QueueTrafficInjector {
+
+    // 한 번의 파이프라인 왕복에 보내는 ZADD 명령 수
+    private static final int COMMANDS_PER_PIPELINE = 50;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int MAX_BATCH_SIZE = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Map<Long, ScheduledFuture<?>> heartbeats = new ConcurrentHashMap<>();
+
+    public QueueTrafficInjector(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @return 삽입 결과 (삽입 후 인원, 처리량)
+     */
+    public FillResult fill(long concertId, int queueCount, int activeCount, int batchSize, int heartbeatSeconds,
+            int keepAliveSeconds) {
+        int batch = batchSize > 0 ? Math.min(batchSize, MAX_BATCH_SIZE) : DEFAULT_BATCH_SIZE;
+        String queueKey = "concert_queue:" + concertId;
+        String activeUsersKey = "active_users:" + concertId;
+        // 실행마다 접두어를 달리해 이전 주입분과 멤버가 겹치지 않도록 함
+        String prefix = "syn:" + UUID.randomUUID().toString().substring(0, 8) + ":";
+
+        long start = System.nanoTime();
+        insert(queueKey, prefix + "q", queueCount, batch, false);
+        insert(activeUsersKey, prefix + "a", activeCount, batch, false);
+        long elapsedNanos = System.nanoTime() - start;
+
+        if (activeCount > 0 && heartbeatSeconds > 0 && keepAliveSeconds > 0) {
+            scheduleHeartbeat(concertId, activeUsersKey, prefix + "a", activeCount, batch, heartbeatSeconds,
+                    keepAliveSeconds);
+        }
+
+        Long queueSize = redisTemplate.opsForZSet().zCard(queueKey);
+        Long activeSize = redisTemplate.opsForZSet().zCard(activeUsersKey);
+        long inserted = (long) queueCount + activeCount;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        log.info("Injected {} synthetic users into concert {} in {} ms ({} ops/s)", inserted, concertId,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), (long) (inserted / Math.max(seconds, 1e-9)));
+        return new FillResult(
+                queueSize != null ? queueSize : 0,
+                activeSize != null ? activeSize : 0,
+                inserted / Math.max(seconds, 1e-9),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+    }
+
+    /**
+     * @param existingOnly true면 이미 있는 멤버의 점수만 갱신 (ZADD XX) - 만료 처리된 유저는 되살리지 않음
+     */
+    private void insert(String key, String memberPrefix, int count, int batchSize, boolean existingOnly) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        RedisZSetCommands.ZAddArgs args = existingOnly
+                ? RedisZSetCommands.ZAddArgs.ifExists()
+                : RedisZSetCommands.ZAddArgs.empty();
+
+        int next = 0;
+        while (next < count) {
+            int from = next;
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                int cursor = from;
+                for (int command = 0; command < COMMANDS_PER_PIPELINE && cursor < count; command++) {
+                    int to = Math.min(count, cursor + batchSize);
+                    // 같은 시각에 몰린 도착을 재현: 모든 멤버가 현재 시각 점수
+                    double score = System.currentTimeMillis();
+                    Set<Tuple> tuples = new LinkedHashSet<>(to - cursor);
+                    for (int i = cursor; i < to; i++) {
+                        tuples.add(new DefaultTuple((memberPrefix + i).getBytes(StandardCharsets.UTF_8), score));
+                    }
+                    connection.zSetCommands().zAdd(rawKey, tuples, args);
+                    cursor = to;
+                }
+                return null;
+            });
+            next = Math.min(count, from + COMMANDS_PER_PIPELINE * batchSize);
+        }
+    }
+
+    private void scheduleHeartbeat(long concertId, String key, String memberPrefix, int count, int batchSize,
+            int heartbeatSeconds, int keepAliveSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(keepAliveSeconds);
+        ScheduledFuture<?>[] self = new ScheduledFuture<?>[1];
+        self[0] = heartbeatScheduler.scheduleAtFixedRate(() -> {
+            if (System.nanoTime() > deadline) {
+                heartbeats.remove(concertId, self[0]);
+                self[0].cancel(false);
+                return;
+            }
+            try {
+                insert(key, memberPrefix, count, batchSize, true);
+            } catch (Exception e) {
+                log.warn("Synthetic heartbeat failed for concert {}: {}", concertId, e.getMessage());
+            }
+        }, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        // 같은 공연에 다시 주입하면 이전 heartbeat는 중단
+        ScheduledFuture<?> previous = heartbeats.put(concertId, self[0]);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    public record FillResult(long queueCount, long activeCount, double insertsPerSecond, long elapsedMillis) {
+    }
+}
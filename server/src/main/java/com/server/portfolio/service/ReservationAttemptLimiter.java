@@ -0,0 +1,226 @@
+package com.server.portfolio.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별, 회차별 좌석 선점 시도 제한
+ * - 토큰 버킷: capacity회까지 연속 시도 가능, 이후 refill-per-second 속도로 회복
+ * - 동시 선점 좌석 수 상한: 결제 대기(PENDING) 중인 예약이 max-held-seats를 넘지 않도록 제한
+ * 두 검사는 하나의 Lua 스크립트로 원자적으로 수행되며, 분산 락/트랜잭션 이전에 호출됩니다.
+ * 통과한 시도는 같은 스크립트 안에서 요청 좌석 수만큼 임시 슬롯(pending)을 먼저 잡아두므로,
+ * 동시에 들어온 요청들이 모두 검사를 통과해 상한을 넘는 일이 없습니다.
+ * - 트랜잭션 성공: confirmHolds로 임시 슬롯을 예약 ID로 교체
+ * - 실패: cancelHolds로 임시 슬롯 반납 (프로세스가 죽어도 pending-ttl 후 자동 만료)
+ * Redis 장애 시에는 제한 없이 통과 (예약 자체는 분산 락이 보호)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationAttemptLimiter {
+
+    public static final String RATE_LIMITED = "RATE_LIMITED";
+    public static final String HOLD_LIMIT_EXCEEDED = "HOLD_LIMIT_EXCEEDED";
+
+    // KEYS[1]: 토큰 버킷(hash), KEYS[2]: 선점 중인 예약(zset, score=선점 시각)
+    // ARGV: now(ms), capacity, refill(토큰/초), holdTtl(ms), maxHeld, 요청 좌석 수, 시도 ID, pendingTtl(ms)
+    // 반환: {0, 0} 허용 / {1, retryAfterMs} 시도 초과 / {2, retryAfterMs} 선점 좌석 초과
+    // 허용 시 "시도 ID:i" 임시 슬롯을 요청 좌석 수만큼 추가 (score를 앞당겨 pendingTtl 뒤에 만료되도록)
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local capacity = tonumber(ARGV[2])
+            local rate = tonumber(ARGV[3]) / 1000
+            local holdTtl = tonumber(ARGV[4])
+            local maxHeld = tonumber(ARGV[5])
+            local requested = tonumber(ARGV[6])
+            local attemptId = ARGV[7]
+            local pendingTtl = tonumber(ARGV[8])
+
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - holdTtl)
+            local held = redis.call('ZCARD', KEYS[2])
+            if held + requested > maxHeld then
+              local oldest = redis.call('ZRANGE', KEYS[2], 0, 0, 'WITHSCORES')
+              local retry = holdTtl
+              if oldest[2] then
+                retry = tonumber(oldest[2]) + holdTtl - now
+              end
+              return {2, math.max(0, math.floor(retry))}
+            end
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+            local result = {0, 0}
+            if tokens < 1 then
+              result = {1, math.ceil((1 - tokens) / rate)}
+            else
+              tokens = tokens - 1
+              local pendingScore = now - holdTtl + pendingTtl
+              for i = 1, requested do
+                redis.call('ZADD', KEYS[2], pendingScore, attemptId .. ':' .. i)
+              end
+              redis.call('PEXPIRE', KEYS[2], holdTtl)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate))
+            return result
+            """, List.class);
+
+    // KEYS[1]: 선점 중인 예약(zset)
+    // ARGV: now(ms), holdTtl(ms), 시도 ID, 임시 슬롯 수, 예약 ID...
+    // 임시 슬롯을 지우고 예약 ID를 선점 시각(now)으로 추가 (예약 ID가 없으면 반납만)
+    private static final RedisScript<Long> SETTLE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local holdTtl = tonumber(ARGV[2])
+            local attemptId = ARGV[3]
+            local pending = tonumber(ARGV[4])
+            for i = 1, pending do
+              redis.call('ZREM', KEYS[1], attemptId .. ':' .. i)
+            end
+            for i = 5, #ARGV do
+              redis.call('ZADD', KEYS[1], now, ARGV[i])
+            end
+            if #ARGV >= 5 then
+              redis.call('PEXPIRE', KEYS[1], holdTtl)
+            end
+            return #ARGV - 4
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ticket.reservation-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ticket.reservation-limit.capacity:5}")
+    private int capacity;
+
+    @Value("${ticket.reservation-limit.refill-per-second:0.5}")
+    private double refillPerSecond;
+
+    @Value("${ticket.reservation-limit.max-held-seats:4}")
+    private int maxHeldSeats;
+
+    @Value("${ticket.reservation-limit.hold-ttl-minutes:10}")
+    private long holdTtlMinutes;
+
+    // 임시 슬롯 유지 시간 - 좌석 락 대기 + 트랜잭션보다 충분히 길게 (확정/반납 전에 프로세스가 죽은 경우에만 의미 있음)
+    @Value("${ticket.reservation-limit.pending-ttl-seconds:30}")
+    private long pendingTtlSeconds;
+
+    /**
+     * 선점 시도 1회를 소비하고, 허용되면 요청 좌석 수만큼 임시 슬롯을 잡습니다.
+     * 허용된 Decision은 트랜잭션 이후 반드시 confirmHolds 또는 cancelHolds로 정리해야 합니다.
+     */
+    public Decision tryAcquire(long userId, long concertOptionId, int seatCount) {
+        if (!enabled) {
+            return Decision.ALLOWED;
+        }
+        String attemptId = UUID.randomUUID().toString();
+        List<?> result;
+        try {
+            result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+                    List.of(bucketKey(userId, concertOptionId), heldKey(userId, concertOptionId)),
+                    Long.toString(System.currentTimeMillis()),
+                    Integer.toString(capacity),
+                    Double.toString(refillPerSecond),
+                    Long.toString(TimeUnit.MINUTES.toMillis(holdTtlMinutes)),
+                    Integer.toString(maxHeldSeats),
+                    Integer.toString(seatCount),
+                    attemptId,
+                    Long.toString(TimeUnit.SECONDS.toMillis(pendingTtlSeconds)));
+        } catch (Exception e) {
+            log.debug("Reservation limiter unavailable: {}", e.getMessage());
+            return Decision.ALLOWED;
+        }
+        if (result == null || result.size() < 2) {
+            return Decision.ALLOWED;
+        }
+
+        long code = Long.parseLong(String.valueOf(result.get(0)));
+        long retryAfterMs = Long.parseLong(String.valueOf(result.get(1)));
+        if (code == 0) {
+            return new Decision(true, "", 0, attemptId, seatCount);
+        }
+        String errorCode = code == 1 ? RATE_LIMITED : HOLD_LIMIT_EXCEEDED;
+        meterRegistry.counter("ticket.reservation.limited", "reason", errorCode).increment();
+        return new Decision(false, errorCode, retryAfterMs, null, 0);
+    }
+
+    /**
+     * 예약 성공 시 임시 슬롯을 선점 좌석(member=예약 ID)으로 교체합니다.
+     */
+    public void confirmHolds(long userId, long concertOptionId, Decision decision, Collection<Long> reservationIds) {
+        settle(userId, concertOptionId, decision, reservationIds);
+    }
+
+    /**
+     * 예약 실패 시 임시 슬롯을 반납합니다.
+     */
+    public void cancelHolds(long userId, long concertOptionId, Decision decision) {
+        settle(userId, concertOptionId, decision, List.of());
+    }
+
+    private void settle(long userId, long concertOptionId, Decision decision, Collection<Long> reservationIds) {
+        if (!enabled || decision.attemptId() == null) {
+            return;
+        }
+        List<String> args = new ArrayList<>(4 + reservationIds.size());
+        args.add(Long.toString(System.currentTimeMillis()));
+        args.add(Long.toString(TimeUnit.MINUTES.toMillis(holdTtlMinutes)));
+        args.add(decision.attemptId());
+        args.add(Integer.toString(decision.pendingSlots()));
+        reservationIds.forEach(id -> args.add(id.toString()));
+        try {
+            redisTemplate.execute(SETTLE_SCRIPT, List.of(heldKey(userId, concertOptionId)), args.toArray());
+        } catch (Exception e) {
+            // 임시 슬롯은 pending-ttl 후 만료되므로 상한이 잠시 보수적으로 적용될 뿐
+            log.debug("Failed to settle seat holds: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 결제 확정/취소로 더 이상 선점 상태가 아닌 예약을 제거합니다.
+     */
+    public void releaseHolds(long userId, long concertOptionId, Collection<Long> reservationIds) {
+        if (!enabled || reservationIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(heldKey(userId, concertOptionId),
+                    reservationIds.stream().map(String::valueOf).toArray());
+        } catch (Exception e) {
+            log.debug("Failed to release seat holds: {}", e.getMessage());
+        }
+    }
+
+    private static String bucketKey(long userId, long concertOptionId) {
+        return "reserve_bucket:{" + userId + ":" + concertOptionId + "}";
+    }
+
+    private static String heldKey(long userId, long concertOptionId) {
+        return "reserve_held:{" + userId + ":" + concertOptionId + "}";
+    }
+
+    /**
+     * @param attemptId    임시 슬롯을 잡은 시도 ID (슬롯을 잡지 않았으면 null)
+     * @param pendingSlots 잡은 임시 슬롯 수
+     */
+    public record Decision(boolean allowed, String errorCode, long retryAfterMs, String attemptId, int pendingSlots) {
+        static final Decision ALLOWED = new Decision(true, "", 0, null, 0);
+    }
+}
@@ -0,0 +1,48 @@
+package com.server.portfolio.service;
+
+import com.server.portfolio.domain.VenueLayout;
+import com.server.portfolio.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 ID → 회차 ID 조회
+ * reserveSeat 요청의 좌석이 요청한 회차(concert_option_id, 대기실을 통과한 회차)에 속하는지 확인할 때와
+ * 진단용 이벤트/지표에서 회차별로 묶을 때 사용 (배치도 회차의 가상 좌석 ID는 DB 조회 없이 ID에서 계산)
+ * 좌석의 소속 회차는 바뀌지 않으므로 캐시 무효화가 필요 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatOptionResolver {
+
+    private static final int MAX_CACHED_SEATS = 100_000;
+
+    private final SeatRepository seatRepository;
+    private final Map<Long, Long> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @return 회차 ID, 존재하지 않는 좌석이면 0
+     */
+    public long concertOptionIdOf(long seatId) {
+        if (VenueLayout.isVirtualSeatId(seatId)) {
+            return VenueLayout.concertOptionIdOf(seatId);
+        }
+        Long cached = cache.get(seatId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long optionId = seatRepository.findConcertOptionIdById(seatId);
+        if (optionId == null) {
+            return 0;
+        }
+        if (cache.size() >= MAX_CACHED_SEATS) {
+            cache.clear();
+        }
+        cache.put(seatId, optionId);
+        return optionId;
+    }
+}
@@ -1,9 +1,19 @@
 package com.server.portfolio.service;
 
 import com.server.portfolio.domain.*;
+import com.server.portfolio.grpc.ConcertOptionServerInterceptor;
+import com.server.portfolio.grpc.PriorityLane;
+import com.server.portfolio.grpc.PriorityLaneGate;
+import com.server.portfolio.jfr.*;
+import com.server.portfolio.metrics.SeatContentionTracker;
+import com.server.portfolio.metrics.TicketMetrics;
 import com.server.portfolio.repository.*;
+import com.server.portfolio.security.GrpcAuthenticationInterceptor;
 import com.server.portfolio.security.JwtTokenProvider;
 import com.ticket.portfolio.*;
+import com.ticket.portfolio.security.PasswordHashingService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,9 +48,24 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
     private final RedissonClient redissonClient;
     private final PlatformTransactionManager transactionManager;
     private final JwtTokenProvider jwtTokenProvider;
-    private final org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final ConcertProvisioningService concertProvisioningService;
+    private final VenueLayoutRepository venueLayoutRepository;
+    private final VenueSeatService venueSeatService;
+    private final QueueTrafficInjector queueTrafficInjector;
+    private final TicketMetrics ticketMetrics;
+    private final SeatOptionResolver seatOptionResolver;
+    private final UserIdResolver userIdResolver;
+    private final SeatContentionTracker seatContentionTracker;
+    private final ReservationAttemptLimiter reservationAttemptLimiter;
+    private final PriorityLaneGate priorityLaneGate;
+
+    // 운영 환경 실수 방지: 명시적으로 켠 환경에서만 가상 유저 주입 허용
+    @org.springframework.beans.factory.annotation.Value("${ticket.debug.fill-queue-enabled:false}")
+    private boolean debugFillQueueEnabled;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long MAX_DEBUG_FILL_COUNT = 5_000_000;
 
     // ① 티켓(콘서트) 등록 (Admin용)
     @Override
@@ -52,6 +77,11 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
 
         log.info("Registering concert: {} with {} seats", title, seatCount);
 
+        if (request.getVenueLayoutId() > 0) {
+            registerConcertWithLayout(request, responseObserver);
+            return;
+        }
+
         try {
             AtomicLong concertOptionId = new AtomicLong(-1);
             new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
@@ -97,19 +127,154 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
         responseObserver.onCompleted();
     }
 
+    // 배치도 기반 등록: 회차마다 좌석 상태 벡터만 저장하고 좌석 행은 예약 시 생성
+    private void registerConcertWithLayout(RegisterConcertRequest request,
+            StreamObserver<RegisterConcertResponse> responseObserver) {
+        // 회차 수만큼 좌석 상태 벡터를 만들 수 있으므로 관리자만 허용
+        if (!isAdminToken(request.getAdminToken())) {
+            responseObserver.onNext(RegisterConcertResponse.newBuilder()
+                    .setSuccess(false)
+                    .setMessage("관리자만 사용할 수 있습니다.")
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+        try {
+            List<Long> optionIds = new java.util.ArrayList<>();
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                VenueLayout layout = venueLayoutRepository.findById(request.getVenueLayoutId())
+                        .orElseThrow(() -> new IllegalArgumentException("배치도가 존재하지 않습니다."));
+
+                Concert concert = Concert.builder()
+                        .title(request.getTitle())
+                        .venue(request.getVenue())
+                        .imageUrl(request.getImageUrl())
+                        .build();
+                concertRepository.save(concert);
+
+                List<String> dates = new java.util.ArrayList<>();
+                dates.add(request.getConcertDate());
+                dates.addAll(request.getConcertDatesList());
+                for (String date : dates) {
+                    ConcertOption option = new ConcertOption(concert, LocalDateTime.parse(date, DATE_FORMATTER),
+                            request.getPrice());
+                    option.applyVenueLayout(layout);
+                    concertOptionRepository.save(option);
+                    optionIds.add(option.getId());
+                }
+            });
+
+            log.info("Registered concert {} with layout {}: options={}", request.getTitle(),
+                    request.getVenueLayoutId(), optionIds);
+            responseObserver.onNext(RegisterConcertResponse.newBuilder()
+                    .setSuccess(true)
+                    .setMessage("성공적으로 등록되었습니다.")
+                    .setConcertId(optionIds.get(0))
+                    .addAllConcertIds(optionIds)
+                    .build());
+        } catch (Exception e) {
+            log.error("Concert registration with layout failed", e);
+            responseObserver.onNext(RegisterConcertResponse.newBuilder()
+                    .setSuccess(false)
+                    .setMessage("등록 실패: " + e.getMessage())
+                    .build());
+        }
+        responseObserver.onCompleted();
+    }
+
+    // ①-2 공연장 배치도 등록 (Admin용)
+    @Override
+    public void registerVenueLayout(RegisterVenueLayoutRequest request,
+            StreamObserver<RegisterVenueLayoutResponse> responseObserver) {
+        if (!isAdminToken(request.getAdminToken())) {
+            responseObserver.onNext(RegisterVenueLayoutResponse.newBuilder()
+                    .setSuccess(false)
+                    .setMessage("관리자만 사용할 수 있습니다.")
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+        log.info("Registering venue layout: {} with {} sections", request.getName(), request.getSectionsCount());
+        try {
+            VenueLayout layout = VenueLayout.builder()
+                    .name(request.getName())
+                    .sections(request.getSectionsList().stream()
+                            .map(s -> new VenueSection(s.getName(), s.getRowCount(), s.getSeatsPerRow()))
+                            .toList())
+                    .build();
+            venueLayoutRepository.save(layout);
+
+            responseObserver.onNext(RegisterVenueLayoutResponse.newBuilder()
+                    .setSuccess(true)
+                    .setMessage("배치도가 등록되었습니다.")
+                    .setLayoutId(layout.getId())
+                    .setTotalSeats(layout.getTotalSeats())
+                    .build());
+        } catch (Exception e) {
+            log.error("Venue layout registration failed", e);
+            responseObserver.onNext(RegisterVenueLayoutResponse.newBuilder()
+                    .setSuccess(false)
+                    .setMessage("등록 실패: " + e.getMessage())
+                    .build());
+        }
+        responseObserver.onCompleted();
+    }
+
+    // ①-3 대용량 공연 등록 (청크 단위 좌석 생성, 진행률 스트리밍)
+    @Override
+    public void provisionConcert(ProvisionConcertRequest request,
+            StreamObserver<ProvisionProgress> responseObserver) {
+        // 회차당 수백만 행을 만들 수 있으므로 관리자만 허용
+        if (!isAdminToken(request.getAdminToken())) {
+            responseObserver.onNext(ProvisionProgress.newBuilder()
+                    .setCompleted(true)
+                    .setSuccess(false)
+                    .setMessage("관리자만 사용할 수 있습니다.")
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+        log.info("Provisioning concert: title={}, seats={}, resumeId={}",
+                request.getConcert().getTitle(), request.getConcert().getSeatCount(), request.getResumeConcertId());
+
+        // 클라이언트가 연결을 끊어도 작업은 계속 진행 (진행률 전송만 중단)
+        ServerCallStreamObserver<ProvisionProgress> serverObserver = (ServerCallStreamObserver<ProvisionProgress>) responseObserver;
+        try {
+            concertProvisioningService.provision(request, progress -> {
+                if (serverObserver.isCancelled()) {
+                    return;
+                }
+                serverObserver.onNext(progress);
+                if (progress.getCompleted()) {
+                    serverObserver.onCompleted();
+                }
+            });
+        } catch (Exception e) {
+            log.error("Concert provisioning failed to start", e);
+            responseObserver.onNext(ProvisionProgress.newBuilder()
+                    .setCompleted(true)
+                    .setSuccess(false)
+                    .setMessage("등록 실패: " + e.getMessage())
+                    .build());
+            responseObserver.onCompleted();
+        }
+    }
+
     // ② 티켓(콘서트) 목록 조회
     @Override
     @Transactional(readOnly = true)
     public void getConcerts(GetConcertsRequest request, StreamObserver<ConcertListResponse> responseObserver) {
         log.info("Fetching all concerts");
         try {
-            List<ConcertOption> options = concertOptionRepository.findAll();
+            List<ConcertOption> options = concertOptionRepository.findVisible();
             ConcertListResponse.Builder responseBuilder = ConcertListResponse.newBuilder();
 
             for (ConcertOption option : options) {
                 // 해당 회차의 남은 좌석 수 계산 (간단히 DB 카운트)
                 // 실제 고사양 환경에선 Redis 캐시 권장
-                long availableCount = seatRepository.findAvailableSeats(option.getId()).size();
+                long availableCount = option.hasVenueLayout()
+                        ? option.getAvailableSeats()
+                        : seatRepository.findAvailableSeats(option.getId()).size();
 
                 responseBuilder.addConcerts(ConcertInfo.newBuilder()
                         .setConcertId(option.getId())
@@ -157,9 +322,17 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
 
         log.info("Fetching available seats for concert option: {}", concertId);
 
+        // 좌석 생성 중인 회차는 ID로 직접 조회해도 (일부만 만들어진) 좌석 배치도를 내주지 않음
+        ConcertOption option = concertOptionRepository.findById(concertId).orElse(null);
+        if (option == null || !option.isVisible()) {
+            responseObserver.onError(Status.NOT_FOUND.withDescription("판매 중인 회차가 아닙니다.").asRuntimeException());
+            return;
+        }
+
         try {
             String activeUsersKey = "active_users:" + concertId;
             long now = System.currentTimeMillis();
+            ticketMetrics.trackQueue(concertId);
             // TTL 5 minutes for active status
             long fiveMinutesAgo = now - (5 * 60 * 1000);
 
@@ -184,7 +357,6 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
             // For now, fetch all seats to count (inefficient but safe for demo) or
             // simplify.
             // Existing code fetches all seats anyway.
-            List<com.server.portfolio.domain.Seat> seats = seatRepository.findAvailableSeats(concertId);
             // Wait, we need TOTAL seats, not just available.
             // If we only fetch Available seats, we can't know Total.
             // We should use `seatRepository.count()` or similar if available, or just fetch
@@ -220,6 +392,7 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
             long limit = 50 * 3; // Basic
 
             if (activeUserCount > limit) {
+                ticketMetrics.recordAdmission(concertId, "bounced");
                 SeatListResponse response = SeatListResponse.newBuilder()
                         .setQueueActive(true) // New Field
                         .build();
@@ -231,12 +404,17 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
             SeatListResponse.Builder responseBuilder = SeatListResponse.newBuilder();
             responseBuilder.setQueueActive(false);
 
-            for (com.server.portfolio.domain.Seat seat : seats) {
-                responseBuilder.addSeats(com.ticket.portfolio.Seat.newBuilder()
-                        .setSeatId(seat.getId())
-                        .setSeatNumber(seat.getSeatNumber())
-                        .setStatus(seat.getStatus().name())
-                        .build());
+            if (option.hasVenueLayout()) {
+                addLayoutSeats(option, responseBuilder);
+            } else {
+                List<com.server.portfolio.domain.Seat> seats = seatRepository.findAvailableSeats(concertId);
+                for (com.server.portfolio.domain.Seat seat : seats) {
+                    responseBuilder.addSeats(com.ticket.portfolio.Seat.newBuilder()
+                            .setSeatId(seat.getId())
+                            .setSeatNumber(seat.getSeatNumber())
+                            .setStatus(seat.getStatus().name())
+                            .build());
+                }
             }
             responseObserver.onNext(responseBuilder.build());
         } catch (Exception e) {
@@ -246,16 +424,80 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
         responseObserver.onCompleted();
     }
 
+    // 배치도 기반 회차: 상태 벡터에서 예약 가능한 좌석만 가상 ID로 응답
+    private void addLayoutSeats(ConcertOption option, SeatListResponse.Builder responseBuilder) {
+        VenueLayout layout = option.getVenueLayout();
+        for (int seatNumber = 1; seatNumber <= layout.getTotalSeats(); seatNumber++) {
+            if (option.getSeatState(seatNumber) != com.server.portfolio.domain.Seat.SeatStatus.AVAILABLE) {
+                continue;
+            }
+            VenueLayout.SeatPosition position = layout.positionOf(seatNumber);
+            responseBuilder.addSeats(com.ticket.portfolio.Seat.newBuilder()
+                    .setSeatId(VenueLayout.virtualSeatId(option.getId(), seatNumber))
+                    .setSeatNumber(seatNumber)
+                    .setStatus(com.server.portfolio.domain.Seat.SeatStatus.AVAILABLE.name())
+                    .setSection(position.section())
+                    .setRow(position.row())
+                    .setNumberInRow(position.number())
+                    .build());
+        }
+    }
+
     // ④ 좌석 예약 요청 (분산 락 적용 - 다중 좌석)
     @Override
     public void reserveSeat(ReservationRequest request, StreamObserver<ReservationResponse> responseObserver) {
         List<Long> seatIds = request.getSeatIdsList();
-        long userId = Long.parseLong(request.getUserId());
+        // 요청의 user_id는 신뢰하지 않고 Authorization 토큰의 사용자로 예약
+        Long authenticatedUserId = authenticatedUserId();
+        if (authenticatedUserId == null) {
+            responseObserver.onNext(ReservationResponse.newBuilder()
+                    .setSuccess(false)
+                    .setMessage("로그인이 필요합니다.")
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+        long userId = authenticatedUserId;
+
+        // 게이트웨이는 concert-option-id 메타데이터의 회차로 입장을 확인하므로 본문의 회차와 같아야 함
+        long concertOptionId = request.getConcertOptionId();
+        String routedOptionId = ConcertOptionServerInterceptor.CONCERT_OPTION_ID.get();
+        if (concertOptionId <= 0 || seatIds.isEmpty()
+                || (routedOptionId != null && !routedOptionId.equals(Long.toString(concertOptionId)))) {
+            rejectForeignSeats(responseObserver);
+            return;
+        }
+
+        // 락/트랜잭션, 좌석별 DB 조회 이전에 사용자별 시도 횟수, 동시 선점 좌석 수 확인 (Redis만 사용)
+        ReservationAttemptLimiter.Decision decision = reservationAttemptLimiter.tryAcquire(userId, concertOptionId,
+                seatIds.size());
+        if (!decision.allowed()) {
+            String reason = ReservationAttemptLimiter.HOLD_LIMIT_EXCEEDED.equals(decision.errorCode())
+                    ? "결제 대기 중인 좌석이 너무 많습니다. 결제를 완료하거나 취소한 뒤 다시 시도해주세요."
+                    : "예약 시도가 너무 잦습니다. 잠시 후 다시 시도해주세요.";
+            responseObserver.onNext(ReservationResponse.newBuilder()
+                    .setSuccess(false)
+                    .setMessage(reason)
+                    .setErrorCode(decision.errorCode())
+                    .setRetryAfterMs(decision.retryAfterMs())
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+
+        // 요청한 회차(대기실을 통과한 회차)의 좌석만 허용 - 다른 회차 좌석을 섞어 대기열을 우회하지 못하도록
+        if (seatIds.stream().anyMatch(seatId -> seatOptionResolver.concertOptionIdOf(seatId) != concertOptionId)) {
+            reservationAttemptLimiter.cancelHolds(userId, concertOptionId, decision);
+            rejectForeignSeats(responseObserver);
+            return;
+        }
 
         List<Long> lockedSeatIds = new java.util.ArrayList<>();
         List<RLock> locks = new java.util.ArrayList<>();
+        List<Long> lockedAt = new java.util.ArrayList<>();
 
         AtomicBoolean success = new AtomicBoolean(false);
+        AtomicBoolean busy = new AtomicBoolean(false);
         AtomicReference<String> message = new AtomicReference<>("");
         List<Long> reservationIds = new java.util.ArrayList<>();
 
@@ -267,70 +509,155 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
                 String lockKey = "seat_lock:" + seatId;
                 RLock lock = redissonClient.getLock(lockKey);
 
+                SeatLockEvent lockEvent = new SeatLockEvent();
+                lockEvent.begin();
+                long waitStart = System.nanoTime();
                 boolean available = lock.tryLock(5, 5, TimeUnit.SECONDS);
+                long acquiredAt = System.nanoTime();
+                lockEvent.end();
+                ticketMetrics.recordLockAcquire(acquiredAt - waitStart, available);
+                seatContentionTracker.record(seatId, userId, acquiredAt - waitStart, available);
+                if (lockEvent.shouldCommit()) {
+                    lockEvent.concertOptionId = seatOptionResolver.concertOptionIdOf(seatId);
+                    lockEvent.seatCount = seatIds.size();
+                    lockEvent.seatId = seatId;
+                    lockEvent.acquired = available;
+                    lockEvent.commit();
+                }
                 if (!available) {
                     throw new RuntimeException("좌석 " + seatId + " 예약 처리 중입니다.");
                 }
                 locks.add(lock);
+                lockedAt.add(acquiredAt);
                 lockedSeatIds.add(seatId);
             }
 
-            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new IllegalArgumentException("유저가 없습니다."));
-
-                for (Long seatId : seatIds) {
-                    com.server.portfolio.domain.Seat seat = seatRepository.findById(seatId)
-                            .orElseThrow(() -> new IllegalArgumentException("좌석 " + seatId + "이(가) 존재하지 않습니다."));
-
-                    if (seat.getStatus() != com.server.portfolio.domain.Seat.SeatStatus.AVAILABLE) {
-                        throw new IllegalStateException("좌석 " + seatId + "은(는) 이미 예약되었습니다.");
-                    }
-
-                    seat.reserve();
-
-                    Reservation reservation = Reservation.builder()
-                            .user(user)
-                            .seat(seat)
-                            .reservationTime(LocalDateTime.now())
-                            .status(Reservation.ReservationStatus.PENDING)
-                            .build();
-
-                    reservationRepository.save(reservation);
-                    reservationIds.add(reservation.getId());
-                }
-
+            // DB 슬롯은 좌석 락을 모두 잡은 뒤 트랜잭션 구간에서만 점유
+            if (!priorityLaneGate.acquire(PriorityLane.HOLD)) {
+                log.warn("Lane HOLD queue timeout: reserveSeat");
+                busy.set(true);
+                throw new IllegalStateException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            ReservationTransactionEvent txEvent = new ReservationTransactionEvent("reserve", seatIds.size());
+            txEvent.begin();
+            try {
+                reserveSeatsInTransaction(userId, seatIds, reservationIds);
+                reservationAttemptLimiter.confirmHolds(userId, concertOptionId, decision, reservationIds);
                 success.set(true);
                 message.set(seatIds.size() + "개의 좌석 예약에 성공했습니다.");
-            });
+            } finally {
+                priorityLaneGate.release();
+                commitTransactionEvent(txEvent, success.get(), () -> concertOptionId);
+            }
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             message.set("서버 에러가 발생했습니다.");
         } catch (Exception e) {
-            log.error("예약 실패", e);
+            if (!busy.get()) {
+                log.error("예약 실패", e);
+            }
             message.set(e.getMessage());
             // Rollback is automatic in transaction, but need to clear reservationIds list
             // if failed halfway
             reservationIds.clear(); // Respond with empty list
         } finally {
-            for (RLock lock : locks) {
+            for (int i = 0; i < locks.size(); i++) {
+                RLock lock = locks.get(i);
                 if (lock.isHeldByCurrentThread()) {
                     lock.unlock();
+                    ticketMetrics.recordLockHold(System.nanoTime() - lockedAt.get(i));
                 }
             }
+            if (!success.get()) {
+                // 실패한 시도가 잡아둔 선점 슬롯 반납
+                reservationAttemptLimiter.cancelHolds(userId, concertOptionId, decision);
+            }
         }
 
-        ReservationResponse response = ReservationResponse.newBuilder()
+        ReservationResponse.Builder responseBuilder = ReservationResponse.newBuilder()
                 .setSuccess(success.get())
                 .setMessage(message.get())
-                .addAllReservationIds(reservationIds)
-                .build();
+                .addAllReservationIds(reservationIds);
+        if (busy.get()) {
+            responseBuilder.setErrorCode(PriorityLaneGate.LANE_BUSY)
+                    .setRetryAfterMs(priorityLaneGate.timeoutOf(PriorityLane.HOLD));
+        }
+        ReservationResponse response = responseBuilder.build();
 
         responseObserver.onNext(response);
         responseObserver.onCompleted();
     }
 
+    private static void rejectForeignSeats(StreamObserver<ReservationResponse> responseObserver) {
+        responseObserver.onNext(ReservationResponse.newBuilder()
+                .setSuccess(false)
+                .setMessage("요청한 회차의 좌석이 아닙니다.")
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    private void reserveSeatsInTransaction(long userId, List<Long> seatIds, List<Long> reservationIds) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("유저가 없습니다."));
+
+            for (Long seatId : seatIds) {
+                com.server.portfolio.domain.Seat seat;
+                if (VenueLayout.isVirtualSeatId(seatId)) {
+                    // 배치도 기반 회차: 예약 시점에 좌석 행 실체화
+                    seat = venueSeatService.reserveVirtualSeat(seatId);
+                    SeatStateChangeEvent.emit(seat, com.server.portfolio.domain.Seat.SeatStatus.AVAILABLE);
+                } else {
+                    seat = seatRepository.findById(seatId)
+                            .orElseThrow(() -> new IllegalArgumentException("좌석 " + seatId + "이(가) 존재하지 않습니다."));
+
+                    if (seat.getStatus() != com.server.portfolio.domain.Seat.SeatStatus.AVAILABLE) {
+                        throw new IllegalStateException("좌석 " + seatId + "은(는) 이미 예약되었습니다.");
+                    }
+
+                    seat.reserve();
+                    SeatStateChangeEvent.emit(seat, com.server.portfolio.domain.Seat.SeatStatus.AVAILABLE);
+                    venueSeatService.syncSeatState(seat);
+                }
+                // 좌석 생성 중인 회차는 예약 불가 (트랜잭션 전체 롤백)
+                if (!seat.getConcertOption().isVisible()) {
+                    throw new IllegalStateException("판매 중인 회차가 아닙니다.");
+                }
+
+                Reservation reservation = Reservation.builder()
+                        .user(user)
+                        .seat(seat)
+                        .reservationTime(LocalDateTime.now())
+                        .status(Reservation.ReservationStatus.PENDING)
+                        .build();
+
+                reservationRepository.save(reservation);
+                reservationIds.add(reservation.getId());
+            }
+        });
+    }
+
+    // 결제 확정/취소된 예약을 사용자별 선점 좌석 수에서 제외
+    private void releaseHolds(List<Reservation> reservations) {
+        reservations.stream()
+                .collect(java.util.stream.Collectors.groupingBy(
+                        r -> List.of(r.getUser().getId(), r.getSeat().getConcertOption().getId()),
+                        java.util.stream.Collectors.mapping(Reservation::getId, java.util.stream.Collectors.toList())))
+                .forEach((key, ids) -> reservationAttemptLimiter.releaseHolds(key.get(0), key.get(1), ids));
+    }
+
+    // JFR 기록 중일 때만 회차 ID를 조회하여 커밋 (기록하지 않을 때는 조회 비용 없음)
+    private void commitTransactionEvent(ReservationTransactionEvent event, boolean success,
+            java.util.function.LongSupplier concertOptionId) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.success = success;
+            event.concertOptionId = concertOptionId.getAsLong();
+            event.commit();
+        }
+    }
+
     // ⑤ 대기열 토큰 발급
     @Override
     public void issueToken(TokenRequest request, StreamObserver<TokenResponse> responseObserver) {
@@ -339,6 +666,8 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
         String queueKey = "concert_queue:" + concertId;
         String activeUsersKey = "active_users:" + concertId;
         long timestamp = System.currentTimeMillis();
+        QueueAdmitEvent admitEvent = new QueueAdmitEvent();
+        admitEvent.begin();
 
         // 1. Add to Waiting Queue if not already present
         // Use addIfAbsent? Default add updates score (timestamp). We want to keep
@@ -371,6 +700,14 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
         // If I am within the available slots in the queue?
         // e.g. If 10 slots open, rank 0-9 can enter.
         boolean canEnter = availableSlots > 0 && rank != null && rank < availableSlots;
+        ticketMetrics.recordAdmission(concertId, canEnter ? "admitted" : "waiting");
+        admitEvent.end();
+        if (admitEvent.shouldCommit()) {
+            admitEvent.concertOptionId = concertId;
+            admitEvent.waitPosition = myPosition;
+            admitEvent.admitted = canEnter;
+            admitEvent.commit();
+        }
 
         // Simpler for Demo: Just check if I am #1. Or if Active < Limit.
         // The implementation above (rank < availableSlots) is good. It lets
@@ -402,8 +739,13 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
             User user = userRepository.findByEmail(email)
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-            if (passwordEncoder.matches(password, user.getPassword())) {
+            PasswordHashingService.Verification verification = passwordHashingService.verify(password,
+                    user.getPassword());
+            if (verification.matched()) {
                 log.info("Login success: {}", email);
+                if (verification.upgradedHash() != null) {
+                    userRepository.upgradePassword(user.getId(), user.getPassword(), verification.upgradedHash());
+                }
                 sendLoginSuccess(user, responseBuilder, responseObserver);
             } else {
                 log.warn("Login failed: password mismatch for {}", email);
@@ -411,7 +753,7 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
                 responseObserver.onNext(responseBuilder.build());
                 responseObserver.onCompleted();
             }
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | PasswordHashingService.PasswordHashingRejectedException e) {
             log.warn("Login failed: {}", e.getMessage());
             responseBuilder.setSuccess(false).setMessage(e.getMessage());
             responseObserver.onNext(responseBuilder.build());
@@ -460,12 +802,20 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
 
         AtomicBoolean success = new AtomicBoolean(false);
         AtomicReference<String> message = new AtomicReference<>("");
+        java.util.concurrent.atomic.AtomicLong optionId = new java.util.concurrent.atomic.AtomicLong();
+        List<Reservation> processed = new java.util.ArrayList<>();
 
+        PaymentConfirmEvent confirmEvent = new PaymentConfirmEvent();
+        confirmEvent.begin();
+        ReservationTransactionEvent txEvent = new ReservationTransactionEvent("complete", reservationIds.size());
+        txEvent.begin();
         try {
             new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
                 for (Long rId : reservationIds) {
                     Reservation reservation = reservationRepository.findById(rId)
                             .orElseThrow(() -> new IllegalArgumentException("예약 " + rId + "이(가) 존재하지 않습니다."));
+                    optionId.set(reservation.getSeat().getConcertOption().getId());
+                    processed.add(reservation);
 
                     if (reservation.getStatus() != Reservation.ReservationStatus.PENDING) {
                         // Skip already confirmed or silently ignore?
@@ -481,7 +831,10 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
                     reservation.confirm(paymentId);
 
                     // 2. Mark Seat as SOLD
+                    com.server.portfolio.domain.Seat.SeatStatus from = reservation.getSeat().getStatus();
                     reservation.getSeat().confirm();
+                    SeatStateChangeEvent.emit(reservation.getSeat(), from);
+                    venueSeatService.syncSeatState(reservation.getSeat());
                 }
 
                 success.set(true);
@@ -490,6 +843,20 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
         } catch (Exception e) {
             log.error("Failed to complete reservation", e);
             message.set(e.getMessage());
+        } finally {
+            commitTransactionEvent(txEvent, success.get(), optionId::get);
+        }
+        if (success.get()) {
+            releaseHolds(processed);
+        }
+
+        confirmEvent.end();
+        if (confirmEvent.shouldCommit()) {
+            confirmEvent.concertOptionId = optionId.get();
+            confirmEvent.seatCount = reservationIds.size();
+            confirmEvent.paymentId = paymentId;
+            confirmEvent.success = success.get();
+            confirmEvent.commit();
         }
 
         CompleteReservationResponse response = CompleteReservationResponse.newBuilder()
@@ -512,17 +879,26 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
         AtomicBoolean success = new AtomicBoolean(false);
         AtomicReference<String> message = new AtomicReference<>("");
 
+        java.util.concurrent.atomic.AtomicLong optionId = new java.util.concurrent.atomic.AtomicLong();
+        List<Reservation> processed = new java.util.ArrayList<>();
+        ReservationTransactionEvent txEvent = new ReservationTransactionEvent("refund", reservationIds.size());
+        txEvent.begin();
         try {
             new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
                 for (Long rId : reservationIds) {
                     Reservation reservation = reservationRepository.findById(rId)
                             .orElseThrow(() -> new IllegalArgumentException("Reservation " + rId + " not found"));
+                    optionId.set(reservation.getSeat().getConcertOption().getId());
+                    processed.add(reservation);
 
                     if (reservation.getStatus() == Reservation.ReservationStatus.CANCELLED) {
                         continue;
                     }
                     reservation.cancel();
+                    com.server.portfolio.domain.Seat.SeatStatus from = reservation.getSeat().getStatus();
                     reservation.getSeat().cancel();
+                    SeatStateChangeEvent.emit(reservation.getSeat(), from);
+                    venueSeatService.syncSeatState(reservation.getSeat());
                 }
                 success.set(true);
                 message.set("Reservations cancelled and seats freed.");
@@ -530,6 +906,11 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
         } catch (Exception e) {
             log.error("Refund failed", e);
             message.set("Error: " + e.getMessage());
+        } finally {
+            commitTransactionEvent(txEvent, success.get(), optionId::get);
+        }
+        if (success.get()) {
+            releaseHolds(processed);
         }
 
         RefundReservationResponse response = RefundReservationResponse.newBuilder()
@@ -662,4 +1043,73 @@ public class TicketGrpcService extends TicketServiceGrpc.TicketServiceImplBase {
             responseObserver.onError(e);
         }
     }
+
+    // ⑫ Debug: 대기열 강제 채우기 (관리자 전용, 대기열/Redis 부하 테스트용)
+    @Override
+    public void debugFillQueue(DebugFillQueueRequest request,
+            StreamObserver<DebugFillQueueResponse> responseObserver) {
+        DebugFillQueueResponse.Builder responseBuilder = DebugFillQueueResponse.newBuilder();
+
+        if (!debugFillQueueEnabled) {
+            responseObserver.onNext(responseBuilder.setSuccess(false)
+                    .setMessage("대기열 주입 기능이 비활성화되어 있습니다. (ticket.debug.fill-queue-enabled)")
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+        if (!isAdminToken(request.getAdminToken())) {
+            responseObserver.onNext(responseBuilder.setSuccess(false)
+                    .setMessage("관리자만 사용할 수 있습니다.")
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+        if (request.getCount() < 0 || request.getActiveCount() < 0
+                || (long) request.getCount() + request.getActiveCount() > MAX_DEBUG_FILL_COUNT) {
+            responseObserver.onNext(responseBuilder.setSuccess(false)
+                    .setMessage("주입 인원은 0 ~ " + MAX_DEBUG_FILL_COUNT + "명이어야 합니다.")
+                    .build());
+            responseObserver.onCompleted();
+            return;
+        }
+
+        log.info("DebugFillQueue: concert={}, queue={}, active={}, batch={}, heartbeat={}s/{}s",
+                request.getConcertId(), request.getCount(), request.getActiveCount(), request.getBatchSize(),
+                request.getHeartbeatSeconds(), request.getKeepAliveSeconds());
+        try {
+            QueueTrafficInjector.FillResult result = queueTrafficInjector.fill(request.getConcertId(),
+                    request.getCount(), request.getActiveCount(), request.getBatchSize(),
+                    request.getHeartbeatSeconds(), request.getKeepAliveSeconds());
+
+            responseBuilder.setSuccess(true)
+                    .setMessage((request.getCount() + request.getActiveCount()) + "명의 가상 유저를 추가했습니다.")
+                    .setCurrentCount(result.queueCount())
+                    .setActiveCount(result.activeCount())
+                    .setInsertsPerSecond(result.insertsPerSecond())
+                    .setElapsedMs(result.elapsedMillis());
+        } catch (Exception e) {
+            log.error("DebugFillQueue failed", e);
+            responseBuilder.setSuccess(false).setMessage("주입 실패: " + e.getMessage());
+        }
+        responseObserver.onNext(responseBuilder.build());
+        responseObserver.onCompleted();
+    }
+
+    private boolean isAdminToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return false;
+        }
+        org.springframework.security.core.Authentication authentication = jwtTokenProvider.resolveAuthentication(token);
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+    }
+
+    // gRPC 인증 정보(Authorization 토큰 또는 게이트웨이 서명 헤더)의 사용자 ID (subject는 이메일, 캐시 조회)
+    private Long authenticatedUserId() {
+        org.springframework.security.core.Authentication authentication = GrpcAuthenticationInterceptor.AUTHENTICATION.get();
+        if (authentication == null) {
+            return null;
+        }
+        return userIdResolver.userIdOf(authentication.getName());
+    }
 }
@@ -0,0 +1,43 @@
+package com.server.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.portfolio.domain.User;
+import com.server.portfolio.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 정보의 이메일(JWT subject, 게이트웨이 X-User-Id) → 사용자 ID 조회
+ * 예약 시도마다 DB 커넥션을 쓰지 않도록 크기 제한 캐시에 보관 (빈도 제한보다 먼저 실행되는 경로)
+ * 이메일의 사용자 ID는 바뀌지 않으므로, 탈퇴 등으로 사라진 사용자만 만료 시간 뒤에 반영됨
+ */
+@Service
+@RequiredArgsConstructor
+public class UserIdResolver {
+
+    private static final int MAX_CACHED_USERS = 100_000;
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_USERS)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * @return 사용자 ID, 존재하지 않는 사용자면 null (없는 사용자는 캐시하지 않음)
+     */
+    public Long userIdOf(String email) {
+        Long cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+        Long userId = userRepository.findByEmail(email).map(User::getId).orElse(null);
+        if (userId != null) {
+            cache.put(email, userId);
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,125 @@
+package com.server.portfolio.service;
+
+import com.server.portfolio.domain.ConcertOption;
+import com.server.portfolio.domain.Seat;
+import com.server.portfolio.domain.SeatStateVector;
+import com.server.portfolio.domain.VenueLayout;
+import com.server.portfolio.repository.SeatRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 배치도(VenueLayout) 기반 회차의 좌석 처리
+ * - 좌석 행은 예약 시점에만 실체화
+ * - 좌석 상태의 기준은 좌석 행 (행이 없으면 AVAILABLE), 회차의 상태 벡터는 목록 조회용 사본
+ * - 상태 벡터는 커밋 직전에 해당 좌석의 바이트 하나와 잔여 좌석 수만 갱신하는 UPDATE로 반영
+ *   → 회차 행 락은 커밋 직전 짧은 구간에만 잡히고, 같은 회차의 서로 다른 좌석 예약은 좌석 락 단위로 병렬 처리
+ *
+ * 모든 메서드는 호출자의 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class VenueSeatService {
+
+    // 이전 상태가 AVAILABLE(0)이면 -1, 새 상태가 AVAILABLE이면 +1 (같은 상태면 0)
+    // MariaDB는 SET 절을 왼쪽부터 평가하므로 available_seats를 먼저 계산 (갱신 전 바이트 기준)
+    private static final String MARK_SEAT_SQL = "UPDATE concert_options SET "
+            + "available_seats = available_seats"
+            + " + (CASE WHEN ((ASCII(SUBSTRING(seat_states, ?, 1)) >> ?) & 3) = 0 THEN -1 ELSE 0 END)"
+            + " + (CASE WHEN ? = 0 THEN 1 ELSE 0 END), "
+            + "seat_states = INSERT(seat_states, ?, 1, CHAR((ASCII(SUBSTRING(seat_states, ?, 1)) & ?) | ?)) "
+            + "WHERE id = ?";
+
+    private final SeatRepository seatRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 가상 좌석 ID의 좌석을 예약 상태로 실체화 (호출자가 좌석 락을 잡고 있어야 함)
+    public Seat reserveVirtualSeat(long virtualSeatId) {
+        long optionId = VenueLayout.concertOptionIdOf(virtualSeatId);
+        int seatNumber = VenueLayout.seatNumberOf(virtualSeatId);
+
+        ConcertOption option = entityManager.find(ConcertOption.class, optionId);
+        if (option == null || !option.hasVenueLayout() || seatNumber < 1
+                || seatNumber > option.getVenueLayout().getTotalSeats()) {
+            throw new IllegalArgumentException("좌석 " + virtualSeatId + "이(가) 존재하지 않습니다.");
+        }
+
+        // 취소 이력이 있는 좌석은 기존 행을 재사용
+        Seat seat = seatRepository.findByConcertOptionIdAndSeatNumber(optionId, seatNumber).orElse(null);
+        Seat.SeatStatus current = seat != null ? seat.getStatus() : option.getSeatState(seatNumber);
+        if (current != Seat.SeatStatus.AVAILABLE) {
+            throw new IllegalStateException("좌석 " + virtualSeatId + "은(는) 이미 예약되었습니다.");
+        }
+        if (seat == null) {
+            // 동시에 같은 좌석 행을 만들면 uk_seat_option_number 제약으로 한쪽이 실패
+            seat = seatRepository.save(Seat.builder()
+                    .concertOption(option)
+                    .seatNumber(seatNumber)
+                    .status(Seat.SeatStatus.AVAILABLE)
+                    .build());
+        }
+        seat.reserve();
+        markSeat(optionId, seatNumber, Seat.SeatStatus.RESERVED);
+        return seat;
+    }
+
+    // 실체화된 좌석의 상태 변경(확정/취소)을 상태 벡터에 반영
+    public void syncSeatState(Seat seat) {
+        if (!seat.getConcertOption().hasVenueLayout()) {
+            return;
+        }
+        markSeat(seat.getConcertOption().getId(), seat.getSeatNumber(), seat.getStatus());
+    }
+
+    // 트랜잭션이 끝날 때(커밋 직전) 한 번에 반영 - 같은 좌석은 마지막 상태만
+    private void markSeat(long optionId, int seatNumber, Seat.SeatStatus status) {
+        PendingSeatStates pending = (PendingSeatStates) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingSeatStates();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.states.put(new SeatKey(optionId, seatNumber), status);
+    }
+
+    private record SeatKey(long optionId, int seatNumber) implements Comparable<SeatKey> {
+        @Override
+        public int compareTo(SeatKey other) {
+            int byOption = Long.compare(optionId, other.optionId);
+            return byOption != 0 ? byOption : Integer.compare(seatNumber, other.seatNumber);
+        }
+    }
+
+    private class PendingSeatStates implements TransactionSynchronization {
+
+        // 회차 ID 순으로 갱신해 여러 회차를 건드리는 트랜잭션끼리 교착되지 않도록
+        private final Map<SeatKey, Seat.SeatStatus> states = new TreeMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            for (Map.Entry<SeatKey, Seat.SeatStatus> entry : states.entrySet()) {
+                int seatNumber = entry.getKey().seatNumber();
+                int position = SeatStateVector.byteIndex(seatNumber) + 1; // SQL 문자열 위치는 1부터
+                int shift = SeatStateVector.shift(seatNumber);
+                int status = entry.getValue().ordinal();
+                jdbcTemplate.update(MARK_SEAT_SQL,
+                        position, shift, status,
+                        position, position, ~(SeatStateVector.MASK << shift) & 0xFF, status << shift,
+                        entry.getKey().optionId());
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(VenueSeatService.this);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.server.portfolio.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SeatStateVectorTest {
+
+    @Test
+    void packsFourSeatsPerByte() {
+        assertEquals(0, SeatStateVector.create(0).length);
+        assertEquals(1, SeatStateVector.create(4).length);
+        assertEquals(2, SeatStateVector.create(5).length);
+        assertEquals(12_500, SeatStateVector.create(50_000).length);
+    }
+
+    @Test
+    void newVectorIsAllAvailable() {
+        byte[] states = SeatStateVector.create(9);
+
+        for (int seatNumber = 1; seatNumber <= 9; seatNumber++) {
+            assertEquals(Seat.SeatStatus.AVAILABLE, SeatStateVector.get(states, seatNumber));
+        }
+    }
+
+    @Test
+    void byteUpdateChangesOnlyTargetSeat() {
+        byte[] states = SeatStateVector.create(8);
+        mark(states, 2, Seat.SeatStatus.SOLD);
+        mark(states, 4, Seat.SeatStatus.RESERVED);
+        mark(states, 5, Seat.SeatStatus.SOLD);
+
+        assertEquals(Seat.SeatStatus.AVAILABLE, SeatStateVector.get(states, 1));
+        assertEquals(Seat.SeatStatus.SOLD, SeatStateVector.get(states, 2));
+        assertEquals(Seat.SeatStatus.AVAILABLE, SeatStateVector.get(states, 3));
+        assertEquals(Seat.SeatStatus.RESERVED, SeatStateVector.get(states, 4));
+        assertEquals(Seat.SeatStatus.SOLD, SeatStateVector.get(states, 5));
+        assertEquals(Seat.SeatStatus.AVAILABLE, SeatStateVector.get(states, 6));
+
+        // 이미 표시된 좌석을 덮어써도 이전 비트가 남지 않음 (SOLD=0b10 → RESERVED=0b01)
+        mark(states, 2, Seat.SeatStatus.RESERVED);
+        assertEquals(Seat.SeatStatus.RESERVED, SeatStateVector.get(states, 2));
+        mark(states, 2, Seat.SeatStatus.AVAILABLE);
+        assertEquals(Seat.SeatStatus.AVAILABLE, SeatStateVector.get(states, 2));
+        assertEquals(Seat.SeatStatus.RESERVED, SeatStateVector.get(states, 4));
+    }
+
+    @Test
+    void lastSeatOfByteUsesHighBits() {
+        byte[] states = SeatStateVector.create(4);
+        mark(states, 4, Seat.SeatStatus.SOLD);
+
+        assertEquals(0, SeatStateVector.byteIndex(4));
+        assertEquals(6, SeatStateVector.shift(4));
+        assertEquals((byte) 0b1000_0000, states[0]);
+    }
+
+    // VenueSeatService MARK_SEAT_SQL과 같은 계산: (기존 바이트 & ~(MASK << shift)) | (상태 << shift)
+    private static void mark(byte[] states, int seatNumber, Seat.SeatStatus status) {
+        int index = SeatStateVector.byteIndex(seatNumber);
+        int shift = SeatStateVector.shift(seatNumber);
+        states[index] = (byte) ((states[index] & ~(SeatStateVector.MASK << shift) & 0xFF)
+                | (status.ordinal() << shift));
+    }
+}
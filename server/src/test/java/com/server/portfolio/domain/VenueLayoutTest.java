@@ -0,0 +1,54 @@
+package com.server.portfolio.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VenueLayoutTest {
+
+    @Test
+    void virtualSeatIdRoundTrip() {
+        long[][] cases = {{1, 1}, {42, 999_999}, {7_000_000_000L, 50_000}};
+        for (long[] c : cases) {
+            long seatId = VenueLayout.virtualSeatId(c[0], (int) c[1]);
+
+            assertTrue(VenueLayout.isVirtualSeatId(seatId));
+            assertEquals(c[0], VenueLayout.concertOptionIdOf(seatId));
+            assertEquals(c[1], VenueLayout.seatNumberOf(seatId));
+        }
+    }
+
+    @Test
+    void realSeatIdsAreNotVirtual() {
+        assertFalse(VenueLayout.isVirtualSeatId(1));
+        assertFalse(VenueLayout.isVirtualSeatId(Long.MAX_VALUE));
+    }
+
+    @Test
+    void positionsFollowSectionRowOrder() {
+        VenueLayout layout = VenueLayout.builder()
+                .name("hall")
+                .sections(List.of(new VenueSection("A", 2, 3), new VenueSection("B", 1, 4)))
+                .build();
+
+        assertEquals(10, layout.getTotalSeats());
+        assertEquals(new VenueLayout.SeatPosition("A", 1, 1), layout.positionOf(1));
+        assertEquals(new VenueLayout.SeatPosition("A", 2, 3), layout.positionOf(6));
+        assertEquals(new VenueLayout.SeatPosition("B", 1, 4), layout.positionOf(10));
+        assertThrows(IllegalArgumentException.class, () -> layout.positionOf(11));
+    }
+
+    @Test
+    void rejectsLayoutsThatOverflowVirtualSeatIds() {
+        // 좌석 번호가 가상 ID 인코딩 범위(회차당 100만 석 미만)를 넘으면 거절
+        assertThrows(IllegalArgumentException.class, () -> VenueLayout.builder()
+                .name("stadium")
+                .sections(List.of(new VenueSection("A", 1_000, 1_000)))
+                .build());
+    }
+}
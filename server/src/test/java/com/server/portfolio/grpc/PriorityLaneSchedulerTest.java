@@ -0,0 +1,112 @@
+package com.server.portfolio.grpc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PriorityLaneSchedulerTest {
+
+    // 전체 10, 결제 전용 3, 선점 이상 전용 3 → 조회는 4개까지
+    private static final int TOTAL = 10;
+    private static final int PAYMENT_RESERVED = 3;
+    private static final int HOLD_RESERVED = 3;
+
+    @Test
+    void readCannotUseReservedSlots() throws InterruptedException {
+        PriorityLaneScheduler scheduler = newScheduler();
+        for (int i = 0; i < TOTAL - PAYMENT_RESERVED - HOLD_RESERVED; i++) {
+            assertTrue(scheduler.acquire(PriorityLane.READ, 0, TimeUnit.MILLISECONDS));
+        }
+
+        assertFalse(scheduler.acquire(PriorityLane.READ, 0, TimeUnit.MILLISECONDS));
+        // 선점은 결제 예약분 전까지, 결제는 전부 사용 가능
+        for (int i = 0; i < HOLD_RESERVED; i++) {
+            assertTrue(scheduler.acquire(PriorityLane.HOLD, 0, TimeUnit.MILLISECONDS));
+        }
+        assertFalse(scheduler.acquire(PriorityLane.HOLD, 0, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < PAYMENT_RESERVED; i++) {
+            assertTrue(scheduler.acquire(PriorityLane.PAYMENT, 0, TimeUnit.MILLISECONDS));
+        }
+        assertFalse(scheduler.acquire(PriorityLane.PAYMENT, 0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void acquireTimesOutWhenNoSlotIsReleased() throws InterruptedException {
+        PriorityLaneScheduler scheduler = newScheduler();
+        fill(scheduler, PriorityLane.READ, TOTAL - PAYMENT_RESERVED - HOLD_RESERVED);
+
+        long start = System.nanoTime();
+        assertFalse(scheduler.acquire(PriorityLane.READ, 50, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, scheduler.getWaiting(PriorityLane.READ));
+    }
+
+    @Test
+    void releaseWakesHighestWaitingLaneFirst() throws Exception {
+        // 결제 예약분까지 모두 사용 중인 상태
+        PriorityLaneScheduler scheduler = newScheduler();
+        fill(scheduler, PriorityLane.PAYMENT, TOTAL);
+
+        CompletableFuture<Boolean> read = waitFor(scheduler, PriorityLane.READ);
+        CompletableFuture<Boolean> payment = waitFor(scheduler, PriorityLane.PAYMENT);
+        awaitWaiting(scheduler, PriorityLane.READ);
+        awaitWaiting(scheduler, PriorityLane.PAYMENT);
+
+        scheduler.release();
+
+        assertTrue(payment.get(1, TimeUnit.SECONDS));
+        assertFalse(read.isDone());
+        // 남은 슬롯 0 → 조회는 여전히 예약분에 막혀 대기 (제한 시간 후 실패)
+        assertFalse(read.get(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectsReservationsThatLeaveNoSharedSlot() {
+        assertThrows(IllegalArgumentException.class, () -> new PriorityLaneScheduler(6, 3, 3));
+    }
+
+    private static PriorityLaneScheduler newScheduler() {
+        return new PriorityLaneScheduler(TOTAL, PAYMENT_RESERVED, HOLD_RESERVED);
+    }
+
+    private static void fill(PriorityLaneScheduler scheduler, PriorityLane lane, int count)
+            throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            assertTrue(scheduler.acquire(lane, 0, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static CompletableFuture<Boolean> waitFor(PriorityLaneScheduler scheduler, PriorityLane lane) {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> result = CompletableFuture.supplyAsync(() -> {
+            started.countDown();
+            try {
+                return scheduler.acquire(lane, 1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        try {
+            started.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private static void awaitWaiting(PriorityLaneScheduler scheduler, PriorityLane lane) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (scheduler.getWaiting(lane) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, scheduler.getWaiting(lane));
+    }
+}
@@ -0,0 +1,100 @@
+package com.server.portfolio.grpc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VegasConcurrencyLimitTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long QUEUED_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void rejectsAboveLimitUntilSlotIsReleased() {
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(3, 1, 10);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+
+        assertFalse(limit.tryAcquire());
+        limit.releaseWithoutSample();
+        assertTrue(limit.tryAcquire());
+        assertEquals(3, limit.getInflight());
+    }
+
+    @Test
+    void growsWhileRttStaysAtBaseline() {
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(10, 1, 100);
+        sampleAtFullLoad(limit, BASE_RTT, false, 20);
+
+        assertTrue(limit.getLimit() > 10);
+    }
+
+    @Test
+    void shrinksWhenRttShowsQueueing() {
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(50, 1, 100);
+        sampleAtFullLoad(limit, BASE_RTT, false, 1);
+        sampleAtFullLoad(limit, QUEUED_RTT, false, 20);
+
+        assertTrue(limit.getLimit() < 50);
+    }
+
+    @Test
+    void dropsShrinkLimitDownToMinimum() {
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(30, 5, 100);
+        sampleAtFullLoad(limit, BASE_RTT, false, 1);
+        sampleAtFullLoad(limit, BASE_RTT, true, 300);
+
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    void doesNotGrowWhenMostlyIdle() {
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(20, 1, 100);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(BASE_RTT, false);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void probeResetsBaselineAfterRttShift() {
+        // 1ms 기준 이후 10ms로 고정되면 한도가 줄었다가, 재측정(1000~1999 샘플마다) 후 10ms가 새 기준이 되어 다시 늘어남
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(20, 1, 100);
+        sampleAtFullLoad(limit, BASE_RTT, false, 1);
+        sampleAtFullLoad(limit, QUEUED_RTT, false, 900);
+        assertTrue(limit.getLimit() < 10);
+
+        sampleAtFullLoad(limit, QUEUED_RTT, false, 1200);
+        assertTrue(limit.getLimit() > 20);
+    }
+
+    @Test
+    void retryAfterFollowsLastRtt() {
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(10, 1, 100);
+        assertTrue(limit.tryAcquire());
+        limit.release(TimeUnit.MILLISECONDS.toNanos(50), false);
+
+        assertEquals(50, limit.retryAfterMillis());
+    }
+
+    // 한도만큼 점유한 상태에서 한 건의 응답 시간만 반영 (나머지는 샘플 없이 반납)
+    private static void sampleAtFullLoad(VegasConcurrencyLimit limit, long rttNanos, boolean dropped, int samples) {
+        for (int s = 0; s < samples; s++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            limit.release(rttNanos, dropped);
+            for (int i = 1; i < acquired; i++) {
+                limit.releaseWithoutSample();
+            }
+        }
+    }
+}
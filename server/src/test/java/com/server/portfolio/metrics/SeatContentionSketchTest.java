@@ -0,0 +1,87 @@
+package com.server.portfolio.metrics;
+
+import com.server.portfolio.metrics.SeatContentionTracker.HotSeat;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatContentionSketchTest {
+
+    private static final long WAIT = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Test
+    void ranksSeatsByContention() {
+        SeatContentionSketch sketch = new SeatContentionSketch(10);
+        record(sketch, 101, 30, true);
+        record(sketch, 102, 10, false);
+        record(sketch, 103, 20, true);
+
+        List<HotSeat> hot = sketch.hotSeats(10);
+        assertEquals(List.of(101L, 103L, 102L), hot.stream().map(HotSeat::seatId).toList());
+        // Count-Min 추정치는 실제보다 작지 않음
+        assertTrue(hot.get(0).contended() >= 30);
+        assertTrue(hot.get(2).failures() >= 10);
+        assertEquals(60, sketch.totalContended());
+        assertEquals(10, sketch.totalFailures());
+    }
+
+    @Test
+    void keepsOnlyTopKCandidates() {
+        SeatContentionSketch sketch = new SeatContentionSketch(3);
+        for (long seatId = 1; seatId <= 20; seatId++) {
+            record(sketch, seatId, 1, true);
+        }
+        // 나중에 많이 경합한 좌석은 가장 차가운 후보를 밀어내고 들어옴
+        record(sketch, 500, 50, true);
+        record(sketch, 501, 40, true);
+        record(sketch, 502, 30, true);
+
+        List<HotSeat> hot = sketch.hotSeats(10);
+        assertEquals(List.of(500L, 501L, 502L), hot.stream().map(HotSeat::seatId).toList());
+    }
+
+    @Test
+    void coldSeatDoesNotEvictHotterCandidate() {
+        SeatContentionSketch sketch = new SeatContentionSketch(2);
+        record(sketch, 1, 10, true);
+        record(sketch, 2, 10, true);
+        record(sketch, 3, 1, true);
+
+        assertEquals(List.of(1L, 2L), sketch.hotSeats(10).stream().map(HotSeat::seatId).sorted().toList());
+    }
+
+    @Test
+    void limitTruncatesResult() {
+        SeatContentionSketch sketch = new SeatContentionSketch(10);
+        for (long seatId = 1; seatId <= 5; seatId++) {
+            record(sketch, seatId, (int) seatId, true);
+        }
+
+        assertEquals(List.of(5L, 4L), sketch.hotSeats(2).stream().map(HotSeat::seatId).toList());
+    }
+
+    @Test
+    void countsDistinctConflictingUsersUpToCap() {
+        SeatContentionSketch sketch = new SeatContentionSketch(10);
+        for (long userId = 0; userId < 300; userId++) {
+            sketch.record(7, userId, WAIT, false);
+            sketch.record(7, userId, WAIT, false);
+        }
+
+        HotSeat seat = sketch.hotSeats(1).get(0);
+        assertEquals(256, seat.conflictingUsers());
+        assertTrue(seat.usersCapped());
+        assertTrue(seat.waitMicros() >= 600 * TimeUnit.NANOSECONDS.toMicros(WAIT));
+    }
+
+    // 좌석 하나에 서로 다른 사용자 count명이 경합
+    private static void record(SeatContentionSketch sketch, long seatId, int count, boolean acquired) {
+        for (int i = 0; i < count; i++) {
+            sketch.record(seatId, i, WAIT, acquired);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.server.portfolio.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IpBloomFilterTest {
+
+    private static final int INSERTED = 10_000;
+
+    @Test
+    void emptyFilterContainsNothing() {
+        IpBloomFilter filter = new IpBloomFilter(INSERTED);
+
+        assertFalse(filter.mightContain("1.2.3.4"));
+        assertFalse(filter.mightContain("::1"));
+    }
+
+    @Test
+    void hasNoFalseNegatives() {
+        IpBloomFilter filter = new IpBloomFilter(INSERTED);
+        for (int i = 0; i < INSERTED; i++) {
+            filter.put(ip(10, i));
+        }
+
+        for (int i = 0; i < INSERTED; i++) {
+            assertTrue(filter.mightContain(ip(10, i)));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        IpBloomFilter filter = new IpBloomFilter(INSERTED);
+        for (int i = 0; i < INSERTED; i++) {
+            filter.put(ip(10, i));
+        }
+
+        // 목표 1% - 해시 편차를 감안해 2%까지 허용
+        int probes = 100_000;
+        long falsePositives = IntStream.range(0, probes).filter(i -> filter.mightContain(ip(172, i))).count();
+        assertTrue(falsePositives < probes * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void concurrentPutsAreNotLost() {
+        IpBloomFilter filter = new IpBloomFilter(INSERTED);
+        IntStream.range(0, INSERTED).parallel().forEach(i -> filter.put(ip(192, i)));
+
+        for (int i = 0; i < INSERTED; i++) {
+            assertTrue(filter.mightContain(ip(192, i)));
+        }
+    }
+
+    private static String ip(int first, int i) {
+        return first + "." + ((i >> 16) & 0xFF) + "." + ((i >> 8) & 0xFF) + "." + (i & 0xFF);
+    }
+}